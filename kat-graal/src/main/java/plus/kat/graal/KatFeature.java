@@ -0,0 +1,276 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.graal;
+
+import org.graalvm.nativeimage.hosted.Feature;
+import org.graalvm.nativeimage.hosted.RuntimeClassInitialization;
+import org.graalvm.nativeimage.hosted.RuntimeReflection;
+
+import plus.kat.*;
+import plus.kat.anno.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.jar.*;
+import java.util.stream.Stream;
+
+/**
+ * A native-image {@link Feature} that initializes {@link Supplier.Impl}, {@link Spare.Cluster}
+ * and the spares at image build time, registers every {@link Embed} class of the application
+ * classpath for reflection, and looks up their spares so that they are stored in the image heap.
+ * The classes that read runtime config, start services or hold pools, such as the meter,
+ * the flight recorder probe, the intern table and the parser and bucket pools, stay initialized
+ * at run time, only the supplier and spare cluster settings are taken at build time.
+ * The spares whose construction would reach those classes, see {@link #eager(Class)},
+ * are built on first use at run time instead
+ *
+ * <pre>{@code
+ *   native-image --features=plus.kat.graal.KatFeature ...
+ * }</pre>
+ * <p>
+ * The feature is enabled automatically when kat-graal is on the image classpath
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+public class KatFeature implements Feature {
+
+    @Override
+    public String getDescription() {
+        return "Registers the @Embed classes and their spares of kat at build time";
+    }
+
+    /**
+     * The classes and packages whose spares are stored in the image heap
+     */
+    static final String[] BUILD_TIME = {
+        "plus.kat.Supplier",
+        "plus.kat.Supplier$Impl",
+        "plus.kat.Spare",
+        "plus.kat.Spare$Cluster",
+        "plus.kat.spare",
+        "plus.kat.reflex",
+        "plus.kat.chain.Label"
+    };
+
+    /**
+     * The classes that read runtime config, start services or hold pools
+     */
+    static final String[] RUN_TIME = {
+        "plus.kat.utils.Meter",
+        "plus.kat.utils.Flight",
+        "plus.kat.kernel.Intern",
+        "plus.kat.crash.Crash",
+        "plus.kat.entity.Parser",
+        "plus.kat.entity.Parser$Cluster",
+        "plus.kat.chain.Alias$$Bucket",
+        "plus.kat.chain.Space$$Bucket",
+        "plus.kat.chain.Value$$Bucket",
+        "plus.kat.chain.Paper$$Bucket",
+        "plus.kat.stream.Reader$Bucket",
+        "plus.kat.stream.MappedReader",
+        "plus.kat.stream.ChannelReader",
+        "plus.kat.stream.ChannelReader$Bucket",
+        "plus.kat.spare.Splitter",
+        "plus.kat.spare.DateSpare"
+    };
+
+    @Override
+    public void afterRegistration(
+        AfterRegistrationAccess access
+    ) {
+        RuntimeClassInitialization
+            .initializeAtBuildTime(BUILD_TIME);
+        RuntimeClassInitialization
+            .initializeAtRunTime(RUN_TIME);
+    }
+
+    @Override
+    public void beforeAnalysis(
+        BeforeAnalysisAccess access
+    ) {
+        List<String> names = new ArrayList<>();
+        for (Path path : access.getApplicationClassPath()) {
+            scan(path, names);
+        }
+
+        Supplier supplier = Supplier.ins();
+        for (String name : names) {
+            Class<?> klass = access
+                .findClassByName(name);
+            if (klass == null ||
+                !klass.isAnnotationPresent(Embed.class)) {
+                continue;
+            }
+
+            register(klass);
+            if (eager(klass)) {
+                try {
+                    supplier.lookup(klass);
+                } catch (Exception e) {
+                    // Nothing
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers the constructors, methods and fields
+     * of the specified class for runtime reflection
+     *
+     * @param klass the specified class
+     */
+    public static void register(
+        @NotNull Class<?> klass
+    ) {
+        RuntimeReflection.register(klass);
+        RuntimeReflection.register(
+            klass.getDeclaredFields()
+        );
+        RuntimeReflection.register(
+            klass.getDeclaredMethods()
+        );
+        RuntimeReflection.register(
+            klass.getDeclaredConstructors()
+        );
+
+        if (!klass.isInterface() &&
+            !Modifier.isAbstract(klass.getModifiers())) {
+            RuntimeReflection
+                .registerForReflectiveInstantiation(klass);
+        }
+    }
+
+    /**
+     * Returns whether the spare of the specified class can be built at image build time,
+     * that is, its construction neither runs the initializer of an enum nor resolves
+     * a {@link Format} of {@link Date}, whose spare is initialized at run time
+     *
+     * @param klass the specified class
+     */
+    public static boolean eager(
+        @NotNull Class<?> klass
+    ) {
+        if (klass.isEnum()) {
+            return false;
+        }
+
+        for (Field field : klass.getDeclaredFields()) {
+            if (field.getType() == Date.class &&
+                field.isAnnotationPresent(Format.class)) {
+                return false;
+            }
+        }
+
+        for (Method method : klass.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Format.class)) {
+                if (method.getReturnType() == Date.class) {
+                    return false;
+                }
+                for (Class<?> param : method.getParameterTypes()) {
+                    if (param == Date.class) {
+                        return false;
+                    }
+                }
+            }
+            if (!eager(method)) {
+                return false;
+            }
+        }
+
+        for (Constructor<?> constructor : klass.getDeclaredConstructors()) {
+            if (!eager(constructor)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns false if a {@link Date} parameter of the specified executable has a {@link Format}
+     */
+    private static boolean eager(
+        @NotNull Executable executable
+    ) {
+        for (Parameter param : executable.getParameters()) {
+            if (param.getType() == Date.class &&
+                param.isAnnotationPresent(Format.class)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the class names of the specified
+     * classpath entry, a directory or a jar file
+     *
+     * @param path  the specified classpath entry
+     * @param names the specified list of class names
+     */
+    public static void scan(
+        @NotNull Path path,
+        @NotNull List<String> names
+    ) {
+        try {
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> stream = Files.walk(path)) {
+                    stream.forEach(file -> {
+                        if (Files.isRegularFile(file)) {
+                            collect(
+                                path.relativize(file).toString()
+                                    .replace(File.separatorChar, '/'), names
+                            );
+                        }
+                    });
+                }
+            } else if (Files.isRegularFile(path)) {
+                try (JarFile jar = new JarFile(path.toFile())) {
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        collect(
+                            entries.nextElement().getName(), names
+                        );
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds the class name of the specified entry, if it is a class file
+     */
+    private static void collect(
+        @NotNull String entry,
+        @NotNull List<String> names
+    ) {
+        if (entry.endsWith(".class") &&
+            !entry.startsWith("META-INF/") &&
+            !entry.endsWith("package-info.class") &&
+            !entry.endsWith("module-info.class")) {
+            names.add(
+                entry.substring(0, entry.length() - 6).replace('/', '.')
+            );
+        }
+    }
+}
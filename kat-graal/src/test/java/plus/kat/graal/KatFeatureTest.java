@@ -0,0 +1,123 @@
+package plus.kat.graal;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.anno.Embed;
+import plus.kat.anno.Format;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class KatFeatureTest {
+
+    @Test
+    public void test_initialization() {
+        ClassLoader loader = KatFeatureTest.class.getClassLoader();
+        for (String[] names : new String[][]{KatFeature.BUILD_TIME, KatFeature.RUN_TIME}) {
+            for (String name : names) {
+                if (Character.isUpperCase(name.charAt(name.lastIndexOf('.') + 1))) {
+                    assertDoesNotThrow(
+                        () -> Class.forName(name, false, loader), name
+                    );
+                } else {
+                    assertNotNull(
+                        loader.getResource(name.replace('.', '/')), name
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_eager() {
+        assertTrue(KatFeature.eager(User.class));
+        assertFalse(KatFeature.eager(Kind.class));
+        assertFalse(KatFeature.eager(Event.class));
+        assertFalse(KatFeature.eager(Entry.class));
+    }
+
+    @Test
+    public void test_native_app() {
+        assertDoesNotThrow(
+            () -> NativeApp.main(new String[0])
+        );
+    }
+
+    @Test
+    public void test_scan_directory() throws URISyntaxException {
+        Path path = Paths.get(
+            KatFeatureTest.class.getProtectionDomain().getCodeSource().getLocation().toURI()
+        );
+
+        List<String> names = new ArrayList<>();
+        KatFeature.scan(path, names);
+
+        assertTrue(names.contains("plus.kat.graal.KatFeatureTest"));
+        assertTrue(names.contains("plus.kat.graal.KatFeatureTest$User"));
+        assertTrue(User.class.isAnnotationPresent(Embed.class));
+    }
+
+    @Test
+    public void test_scan_jar() throws IOException {
+        Path path = Files.createTempFile("kat", ".jar");
+        try {
+            try (OutputStream out = Files.newOutputStream(path);
+                 JarOutputStream jar = new JarOutputStream(out)) {
+                jar.putNextEntry(new JarEntry("META-INF/MANIFEST.MF"));
+                jar.putNextEntry(new JarEntry("plus/kat/graal/"));
+                jar.putNextEntry(new JarEntry("plus/kat/graal/package-info.class"));
+                jar.putNextEntry(new JarEntry("plus/kat/graal/User.class"));
+                jar.putNextEntry(new JarEntry("plus/kat/graal/User$Meta.class"));
+            }
+
+            List<String> names = new ArrayList<>();
+            KatFeature.scan(path, names);
+
+            assertEquals(2, names.size());
+            assertEquals("plus.kat.graal.User", names.get(0));
+            assertEquals("plus.kat.graal.User$Meta", names.get(1));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Embed("User")
+    static class User {
+        public int id;
+        public String name;
+    }
+
+    @Embed("Kind")
+    enum Kind {
+        USER, META
+    }
+
+    @Embed("Event")
+    static class Event {
+        @Format("yyyy-MM-dd")
+        public Date date;
+    }
+
+    @Embed("Entry")
+    static class Entry {
+        private Date date;
+
+        public Entry(
+            @Format("yyyy-MM-dd") Date date
+        ) {
+            this.date = date;
+        }
+    }
+}
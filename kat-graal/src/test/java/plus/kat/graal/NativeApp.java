@@ -0,0 +1,45 @@
+package plus.kat.graal;
+
+import plus.kat.Json;
+import plus.kat.anno.Embed;
+import plus.kat.anno.Format;
+
+import java.util.Date;
+
+/**
+ * The smoke application of the native-image build in CI
+ *
+ * @author kraity
+ */
+public class NativeApp {
+
+    public static void main(
+        String[] args
+    ) {
+        User user = Json.decode(
+            User.class, "{\"id\":1,\"name\":\"kraity\",\"kind\":\"META\",\"date\":\"2022-01-11\"}"
+        );
+
+        String text = Json.encode(user);
+        System.out.println(text);
+
+        if (!"{\"id\":1,\"name\":\"kraity\",\"kind\":\"META\",\"date\":\"2022-01-11\"}".equals(text)) {
+            throw new IllegalStateException(text);
+        }
+    }
+
+    @Embed("Kind")
+    enum Kind {
+        USER, META
+    }
+
+    @Embed("User")
+    public static class User {
+        public int id;
+        public String name;
+        public Kind kind;
+
+        @Format(value = "yyyy-MM-dd", zone = "UTC")
+        public Date date;
+    }
+}
@@ -0,0 +1,1050 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.*;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates a {@code Spare} for each class annotated with {@code Embed} at compile time,
+ * and registers the generated spares through a {@code Provider} of the package
+ *
+ * <pre>{@code
+ *   @Embed("User")
+ *   public class User {
+ *       public int id;
+ *       public String name;
+ *   }
+ *
+ *   // generated
+ *   // User$$Spare extends AptSpare<User>
+ *   // Kat$$Provider implements Provider
+ * }</pre>
+ * <p>
+ * A class that cannot be written without reflection, such as one with a private
+ * exposed member, a final property or a constructor with parameters, is skipped
+ * and still resolved by {@code ReflectSpare} at runtime
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+@SupportedAnnotationTypes(
+    SpareProcessor.EMBED
+)
+public class SpareProcessor extends AbstractProcessor {
+
+    static final String EMBED = "plus.kat.anno.Embed";
+    static final String EXPOSE = "plus.kat.anno.Expose";
+    static final String FORMAT = "plus.kat.anno.Format";
+    static final String NOT_NULL = "plus.kat.anno.NotNull";
+    static final String UNWRAPPED = "plus.kat.anno.Unwrapped";
+
+    static final String SPARE = "$$Spare";
+    static final String PROVIDER = "Kat$$Provider";
+    static final String SERVICE = "META-INF/services/plus.kat.spare.Provider";
+
+    static final int SEALED = 0x1;
+    static final int DIRECT = 0x2;
+
+    protected Types types;
+    protected Elements elements;
+    protected Messager messager;
+
+    protected final Set<String> providers = new TreeSet<>();
+    protected final Map<String, Integer> packages = new HashMap<>();
+
+    @Override
+    public synchronized void init(
+        ProcessingEnvironment env
+    ) {
+        super.init(env);
+        types = env.getTypeUtils();
+        elements = env.getElementUtils();
+        messager = env.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(
+        Set<? extends TypeElement> annotations,
+        RoundEnvironment env
+    ) {
+        if (env.processingOver()) {
+            if (!providers.isEmpty()) {
+                service();
+            }
+            return false;
+        }
+
+        TypeElement embed = elements
+            .getTypeElement(EMBED);
+        if (embed == null) {
+            return false;
+        }
+
+        Map<String, List<String[]>> group = new TreeMap<>();
+        for (Element e : env.getElementsAnnotatedWith(embed)) {
+            if (e.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+
+            TypeElement type = (TypeElement) e;
+            String source = generate(type);
+            if (source == null) {
+                messager.printMessage(
+                    Diagnostic.Kind.NOTE, "Kat: " + type.getQualifiedName() +
+                        " can not be generated, it is resolved by reflection at runtime", type
+                );
+                continue;
+            }
+
+            String pkg = elements
+                .getPackageOf(type)
+                .getQualifiedName()
+                .toString();
+            String name = flat(type, pkg) + SPARE;
+
+            try {
+                write(pkg, name, source, type);
+            } catch (IOException x) {
+                messager.printMessage(
+                    Diagnostic.Kind.ERROR, "Kat: " + x.getMessage(), type
+                );
+                continue;
+            }
+
+            group.computeIfAbsent(
+                pkg, k -> new ArrayList<>()
+            ).add(
+                new String[]{
+                    elements.getBinaryName(type).toString(),
+                    type.getQualifiedName().toString(), name
+                }
+            );
+        }
+
+        for (Map.Entry<String, List<String[]>> entry : group.entrySet()) {
+            String pkg = entry.getKey();
+            int n = packages.merge(
+                pkg, 1, Integer::sum
+            );
+
+            String name = n == 1 ? PROVIDER : PROVIDER + n;
+            try {
+                write(
+                    pkg, name, provider(pkg, name, entry.getValue()), null
+                );
+                providers.add(
+                    pkg.isEmpty() ? name : pkg + '.' + name
+                );
+            } catch (IOException x) {
+                messager.printMessage(
+                    Diagnostic.Kind.ERROR, "Kat: " + x.getMessage()
+                );
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Writes the service file of the generated providers
+     */
+    protected void service() {
+        try {
+            FileObject file = processingEnv
+                .getFiler()
+                .createResource(
+                    StandardLocation.CLASS_OUTPUT, "", SERVICE
+                );
+            try (Writer w = file.openWriter()) {
+                for (String provider : providers) {
+                    w.write(provider);
+                    w.write('\n');
+                }
+            }
+        } catch (IOException x) {
+            messager.printMessage(
+                Diagnostic.Kind.ERROR, "Kat: " + x.getMessage()
+            );
+        }
+    }
+
+    /**
+     * Writes the specified source file
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    protected void write(
+        String pkg,
+        String name,
+        String source,
+        Element origin
+    ) throws IOException {
+        String fqn = pkg.isEmpty() ?
+            name : pkg + '.' + name;
+        try (Writer w = processingEnv
+            .getFiler()
+            .createSourceFile(fqn, origin)
+            .openWriter()) {
+            w.write(source);
+        }
+    }
+
+    /**
+     * Returns the source of the provider of the specified package
+     */
+    protected String provider(
+        String pkg,
+        String name,
+        List<String[]> spares
+    ) {
+        StringBuilder s = new StringBuilder();
+        if (!pkg.isEmpty()) {
+            s.append("package ").append(pkg).append(";\n\n");
+        }
+
+        s.append("public final class ").append(name).append(" implements plus.kat.spare.Provider {\n\n");
+        s.append("    @Override\n");
+        s.append("    public plus.kat.Spare<?> lookup(\n");
+        s.append("        java.lang.Class<?> klass,\n");
+        s.append("        plus.kat.Supplier supplier\n");
+        s.append("    ) {\n");
+        s.append("        plus.kat.Spare<?> spare;\n");
+        s.append("        switch (klass.getName()) {\n");
+        for (String[] it : spares) {
+            s.append("            case ").append(literal(it[0])).append(": {\n");
+            s.append("                if (klass != ").append(it[1]).append(".class) {\n");
+            s.append("                    return null;\n");
+            s.append("                }\n");
+            s.append("                spare = new ").append(it[2]).append("(\n");
+            s.append("                    this, supplier\n");
+            s.append("                );\n");
+            s.append("                break;\n");
+            s.append("            }\n");
+        }
+        s.append("            default: {\n");
+        s.append("                return null;\n");
+        s.append("            }\n");
+        s.append("        }\n\n");
+        s.append("        plus.kat.Spare.embed(\n");
+        s.append("            klass, spare\n");
+        s.append("        );\n");
+        s.append("        return spare;\n");
+        s.append("    }\n");
+        s.append("}\n");
+        return s.toString();
+    }
+
+    /**
+     * Returns the source of the spare of the specified type,
+     * or {@code null} if the type must be resolved by reflection
+     */
+    protected String generate(
+        TypeElement type
+    ) {
+        if (!eligible(type)) {
+            return null;
+        }
+
+        AnnotationMirror embed =
+            mirror(type, EMBED);
+        int flags = (Integer) value(
+            embed, "claim"
+        );
+        boolean sealed = (flags & SEALED) != 0;
+        boolean direct = (flags & DIRECT) != 0;
+
+        String pkg = elements
+            .getPackageOf(type)
+            .getQualifiedName()
+            .toString();
+        String bean = type
+            .getQualifiedName()
+            .toString();
+
+        Model model = new Model(bean);
+        for (Element e : type.getEnclosedElements()) {
+            if (e.getKind() != ElementKind.FIELD) {
+                continue;
+            }
+            if (!onField((VariableElement) e, model, sealed, direct, pkg)) {
+                return null;
+            }
+        }
+
+        for (Element e : type.getEnclosedElements()) {
+            if (e.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            if (!onMethod((ExecutableElement) e, model, sealed, direct, pkg)) {
+                return null;
+            }
+        }
+
+        return model.source(
+            pkg, flat(type, pkg) + SPARE
+        );
+    }
+
+    /**
+     * Returns {@code true} if the specified type can be generated
+     */
+    protected boolean eligible(
+        TypeElement type
+    ) {
+        Set<Modifier> mods = type.getModifiers();
+        if (mods.contains(Modifier.ABSTRACT) ||
+            !type.getTypeParameters().isEmpty()) {
+            return false;
+        }
+
+        Element e = type;
+        while (e instanceof TypeElement) {
+            TypeElement t = (TypeElement) e;
+            if (t.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            switch (t.getNestingKind()) {
+                case TOP_LEVEL: {
+                    break;
+                }
+                case MEMBER: {
+                    if (!t.getModifiers().contains(Modifier.STATIC) &&
+                        t.getKind() == ElementKind.CLASS) {
+                        return false;
+                    }
+                    break;
+                }
+                default: {
+                    return false;
+                }
+            }
+            e = t.getEnclosingElement();
+        }
+
+        TypeMirror with = (TypeMirror) value(
+            mirror(type, EMBED), "with"
+        );
+        if (!"plus.kat.Spare".equals(raw(with))) {
+            return false;
+        }
+
+        for (Element c : type.getEnclosedElements()) {
+            if (c.getKind() == ElementKind.CONSTRUCTOR) {
+                ExecutableElement ctor = (ExecutableElement) c;
+                if (!ctor.getParameters().isEmpty() ||
+                    ctor.getModifiers().contains(Modifier.PRIVATE)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Registers the specified field like {@code ReflectSpare#onFields}
+     *
+     * @return {@code false} if the field can not be accessed without reflection
+     */
+    protected boolean onField(
+        VariableElement field,
+        Model model,
+        boolean sealed,
+        boolean direct,
+        String pkg
+    ) {
+        Set<Modifier> mods = field.getModifiers();
+        if (mods.contains(Modifier.STATIC)) {
+            return true;
+        }
+
+        AnnotationMirror expose =
+            mirror(field, EXPOSE);
+
+        if (expose == null) {
+            if (sealed) {
+                return true;
+            }
+            if (!mods.contains(Modifier.PUBLIC) ||
+                mods.contains(Modifier.TRANSIENT)) {
+                return true;
+            }
+        }
+
+        TypeMirror tm = field.asType();
+        if (mods.contains(Modifier.PRIVATE) ||
+            mods.contains(Modifier.FINAL) ||
+            !accessible(tm, pkg)) {
+            return false;
+        }
+
+        String name = field
+            .getSimpleName()
+            .toString();
+        String raw = raw(tm) + ".class";
+        String lookup = "field(" + literal(name) + ")";
+
+        String p = model.property(
+            index(expose), raw,
+            generic(tm) ? "actual(" + lookup + ", " + raw + ")" : raw,
+            coder(field, expose) ? "activate(" + raw + ", " + lookup + ")" : "null",
+            mirror(field, NOT_NULL) == null,
+            mirror(field, UNWRAPPED) != null,
+            "it." + name,
+            "it." + name + " = (" + boxed(tm) + ") val"
+        );
+
+        if (expose == null) {
+            model.getter(literal(name), p);
+            model.setter(literal(name), p + ".clone()");
+            return true;
+        }
+
+        if (direct) {
+            int index = index(expose);
+            if (index > -1) {
+                model.setter(
+                    Integer.toString(index), p + ".clone()"
+                );
+            }
+        }
+
+        List<String> keys = keys(expose);
+        if (keys.isEmpty()) {
+            if ((Boolean) value(expose, "export")) {
+                model.getter(literal(name), p);
+                model.setter(literal(name), p + ".clone()");
+            } else {
+                model.setter(literal(name), p);
+            }
+        } else {
+            if ((Boolean) value(expose, "export")) {
+                model.getter(literal(keys.get(0)), p);
+            }
+            for (String alias : keys) {
+                if (!alias.isEmpty()) {
+                    model.setter(literal(alias), p + ".clone()");
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registers the specified method like {@code ReflectSpare#onMethods}
+     *
+     * @return {@code false} if the method can not be accessed without reflection
+     */
+    protected boolean onMethod(
+        ExecutableElement method,
+        Model model,
+        boolean sealed,
+        boolean direct,
+        String pkg
+    ) {
+        int count = method
+            .getParameters()
+            .size();
+        if (count > 1) {
+            return true;
+        }
+
+        Set<Modifier> mods = method.getModifiers();
+        if (mods.contains(Modifier.STATIC)) {
+            return true;
+        }
+
+        AnnotationMirror expose =
+            mirror(method, EXPOSE);
+
+        if (expose == null) {
+            if (sealed) {
+                return true;
+            }
+            if (!mods.contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        } else {
+            List<String> keys = keys(expose);
+            if (!keys.isEmpty()) {
+                String p = property(
+                    method, model, expose, count, pkg
+                );
+                if (p == null) {
+                    return false;
+                }
+
+                if (count != 0) {
+                    if (direct) {
+                        int index = index(expose);
+                        if (index > -1) {
+                            model.setter(
+                                Integer.toString(index), p
+                            );
+                        }
+                    }
+                    for (String alias : keys) {
+                        if (!alias.isEmpty()) {
+                            model.setter(literal(alias), p + ".clone()");
+                        }
+                    }
+                } else {
+                    for (int i = 0; i < keys.size(); i++) {
+                        model.getter(
+                            literal(keys.get(i)), i == 0 ? p : p + ".clone()"
+                        );
+                    }
+                }
+                return true;
+            }
+        }
+
+        String alias = alias(
+            method.getSimpleName().toString(), count
+        );
+        if (alias == null) {
+            return true;
+        }
+
+        String p = property(
+            method, model, expose, count, pkg
+        );
+        if (p == null) {
+            return false;
+        }
+
+        if (count == 0) {
+            model.getter(literal(alias), p);
+        } else {
+            model.setter(literal(alias), p);
+            if (direct) {
+                int index = index(expose);
+                if (index > -1) {
+                    model.setter(
+                        Integer.toString(index), p + ".clone()"
+                    );
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Declares the property of the specified method,
+     * or returns {@code null} if it can not be accessed without reflection
+     */
+    protected String property(
+        ExecutableElement method,
+        Model model,
+        AnnotationMirror expose,
+        int count,
+        String pkg
+    ) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            return null;
+        }
+
+        String name = method
+            .getSimpleName()
+            .toString();
+
+        if (count == 0) {
+            TypeMirror tm = method.getReturnType();
+            if (tm.getKind() == TypeKind.VOID) {
+                return null;
+            }
+
+            if (!accessible(tm, pkg)) {
+                return null;
+            }
+
+            String raw = raw(tm) + ".class";
+            return model.property(
+                index(expose), raw, raw,
+                coder(method, expose) ? "activate(" + raw + ", method(" + literal(name) + "))" : "null",
+                mirror(method, NOT_NULL) == null,
+                mirror(method, UNWRAPPED) != null,
+                "it." + name + "()", null
+            );
+        }
+
+        TypeMirror tm = method
+            .getParameters()
+            .get(0)
+            .asType();
+        if (!accessible(tm, pkg)) {
+            return null;
+        }
+
+        String raw = raw(tm) + ".class";
+        String lookup = "method(" + literal(name) + ", " + raw + ")";
+
+        return model.property(
+            index(expose), raw,
+            generic(tm) ? "actual(" + lookup + ", " + raw + ")" : raw,
+            coder(method, expose) ? "activate(" + raw + ", " + lookup + ")" : "null",
+            mirror(method, NOT_NULL) == null,
+            mirror(method, UNWRAPPED) != null,
+            null, "it." + name + "((" + boxed(tm) + ") val)"
+        );
+    }
+
+    /**
+     * Returns the property name of the specified accessor like
+     * {@code ReflectSpare#onMethods}, or {@code null} if it is not an accessor
+     */
+    static String alias(
+        String key,
+        int count
+    ) {
+        int i = 0, l = key.length();
+        if (l < 4) {
+            return null;
+        }
+
+        char ch = key.charAt(i++);
+        if (ch == 's') {
+            if (count == 0 ||
+                key.charAt(i++) != 'e' ||
+                key.charAt(i++) != 't') {
+                return null;
+            }
+        } else if (ch == 'g') {
+            if (count != 0 ||
+                key.charAt(i++) != 'e' ||
+                key.charAt(i++) != 't') {
+                return null;
+            }
+        } else if (ch == 'i') {
+            if (count != 0 ||
+                key.charAt(i++) != 's') {
+                return null;
+            }
+        } else {
+            return null;
+        }
+
+        char c1 = key.charAt(i++);
+        if (c1 < 'A' || 'Z' < c1) {
+            return null;
+        }
+
+        if (i == l) {
+            return String.valueOf(
+                (char) (c1 + 0x20)
+            );
+        }
+
+        // See: java.beans.Introspector#decapitalize(String)
+        char c2 = key.charAt(i);
+        if (c2 < 'A' || 'Z' < c2) {
+            c1 += 0x20;
+        }
+
+        return c1 + key.substring(i);
+    }
+
+    /**
+     * Returns {@code true} if the coder of the element is specified by annotations
+     */
+    protected boolean coder(
+        Element element,
+        AnnotationMirror expose
+    ) {
+        if (mirror(element, FORMAT) != null) {
+            return true;
+        }
+        if (expose != null) {
+            TypeMirror with = (TypeMirror) value(
+                expose, "with"
+            );
+            return !"plus.kat.entity.Coder".equals(raw(with));
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the specified {@code Expose}
+     */
+    protected int index(
+        AnnotationMirror expose
+    ) {
+        if (expose == null) {
+            return -1;
+        }
+        return (Integer) value(
+            expose, "index"
+        );
+    }
+
+    /**
+     * Returns the aliases of the specified {@code Expose}
+     */
+    protected List<String> keys(
+        AnnotationMirror expose
+    ) {
+        List<String> keys = new ArrayList<>();
+        for (Object v : (List<?>) value(expose, "value")) {
+            keys.add(
+                (String) ((AnnotationValue) v).getValue()
+            );
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the annotation of the specified name on the element
+     */
+    protected AnnotationMirror mirror(
+        Element element,
+        String name
+    ) {
+        for (AnnotationMirror m : element.getAnnotationMirrors()) {
+            TypeElement t = (TypeElement) m
+                .getAnnotationType()
+                .asElement();
+            if (t.getQualifiedName().contentEquals(name)) {
+                return m;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of the specified attribute, including defaults
+     */
+    protected Object value(
+        AnnotationMirror mirror,
+        String name
+    ) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e :
+            elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (e.getKey().getSimpleName().contentEquals(name)) {
+                return e.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if the specified type is accessible from the package
+     */
+    protected boolean accessible(
+        TypeMirror tm,
+        String pkg
+    ) {
+        switch (tm.getKind()) {
+            case ARRAY: {
+                return accessible(
+                    ((ArrayType) tm).getComponentType(), pkg
+                );
+            }
+            case TYPEVAR: {
+                return accessible(
+                    types.erasure(tm), pkg
+                );
+            }
+            case DECLARED: {
+                Element e = ((DeclaredType) tm).asElement();
+                boolean local = elements
+                    .getPackageOf(e)
+                    .getQualifiedName()
+                    .contentEquals(pkg);
+                while (e instanceof TypeElement) {
+                    Set<Modifier> mods = e.getModifiers();
+                    if (mods.contains(Modifier.PRIVATE)) {
+                        return false;
+                    }
+                    if (!local && !mods.contains(Modifier.PUBLIC)) {
+                        return false;
+                    }
+                    e = e.getEnclosingElement();
+                }
+                return true;
+            }
+            default: {
+                return tm.getKind().isPrimitive();
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the specified type carries generic information
+     */
+    protected boolean generic(
+        TypeMirror tm
+    ) {
+        switch (tm.getKind()) {
+            case ARRAY: {
+                return generic(
+                    ((ArrayType) tm).getComponentType()
+                );
+            }
+            case TYPEVAR: {
+                return true;
+            }
+            case DECLARED: {
+                return !((DeclaredType) tm)
+                    .getTypeArguments()
+                    .isEmpty();
+            }
+            default: {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the erased source name of the specified type
+     */
+    protected String raw(
+        TypeMirror tm
+    ) {
+        switch (tm.getKind()) {
+            case ARRAY: {
+                return raw(
+                    ((ArrayType) tm).getComponentType()
+                ) + "[]";
+            }
+            case TYPEVAR: {
+                return raw(
+                    types.erasure(tm)
+                );
+            }
+            case DECLARED: {
+                return ((TypeElement) ((DeclaredType) tm)
+                    .asElement())
+                    .getQualifiedName()
+                    .toString();
+            }
+            default: {
+                return tm.getKind()
+                    .name()
+                    .toLowerCase(Locale.ROOT);
+            }
+        }
+    }
+
+    /**
+     * Returns the erased and boxed source name of the specified type
+     */
+    protected String boxed(
+        TypeMirror tm
+    ) {
+        if (tm.getKind().isPrimitive()) {
+            return types.boxedClass(
+                (PrimitiveType) tm
+            ).getQualifiedName().toString();
+        }
+        return raw(tm);
+    }
+
+    /**
+     * Returns the flat name of the type in the package, such as {@code Outer$Inner}
+     */
+    protected String flat(
+        TypeElement type,
+        String pkg
+    ) {
+        String name = elements
+            .getBinaryName(type)
+            .toString();
+        return pkg.isEmpty() ?
+            name : name.substring(pkg.length() + 1);
+    }
+
+    /**
+     * Returns the java literal of the specified string
+     */
+    static String literal(
+        String text
+    ) {
+        StringBuilder s = new StringBuilder(
+            text.length() + 2
+        );
+        s.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"': {
+                    s.append("\\\"");
+                    break;
+                }
+                case '\\': {
+                    s.append("\\\\");
+                    break;
+                }
+                default: {
+                    if (c < 0x20 || c > 0x7E) {
+                        s.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        s.append(c);
+                    }
+                }
+            }
+        }
+        return s.append('"').toString();
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    static class Model {
+
+        final String bean;
+        final StringBuilder init = new StringBuilder();
+        final StringBuilder getters = new StringBuilder();
+        final StringBuilder setters = new StringBuilder();
+
+        int slot;
+
+        Model(
+            String bean
+        ) {
+            this.bean = bean;
+        }
+
+        /**
+         * Declares a property and returns its variable
+         */
+        String property(
+            int index,
+            String klass,
+            String type,
+            String coder,
+            boolean nullable,
+            boolean unwrapped,
+            String getter,
+            String setter
+        ) {
+            int i = slot++;
+            String p = "p" + i;
+
+            init.append("        plus.kat.spare.AptSpare.Property<").append(bean).append("> ")
+                .append(p).append(" = new plus.kat.spare.AptSpare.Property<>(\n")
+                .append("            this, ").append(i).append(", ").append(index).append(", ")
+                .append(klass).append(", ").append(type).append(", ").append(coder).append(", ")
+                .append(nullable).append(", ").append(unwrapped).append("\n")
+                .append("        );\n");
+
+            if (getter != null) {
+                getters.append("            case ").append(i).append(": {\n")
+                    .append("                return ").append(getter).append(";\n")
+                    .append("            }\n");
+            }
+
+            if (setter != null) {
+                setters.append("            case ").append(i).append(": {\n")
+                    .append("                ").append(setter).append(";\n")
+                    .append("                break;\n")
+                    .append("            }\n");
+            }
+            return p;
+        }
+
+        void getter(
+            String key,
+            String property
+        ) {
+            init.append("        getter(").append(key)
+                .append(", ").append(property).append(");\n");
+        }
+
+        void setter(
+            String key,
+            String property
+        ) {
+            init.append("        setter(").append(key)
+                .append(", ").append(property).append(");\n");
+        }
+
+        String source(
+            String pkg,
+            String name
+        ) {
+            StringBuilder s = new StringBuilder();
+            if (!pkg.isEmpty()) {
+                s.append("package ").append(pkg).append(";\n\n");
+            }
+
+            s.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+            s.append("public final class ").append(name)
+                .append(" extends plus.kat.spare.AptSpare<").append(bean).append("> {\n\n");
+
+            s.append("    public ").append(name).append("(\n");
+            s.append("        plus.kat.spare.Provider provider,\n");
+            s.append("        plus.kat.Supplier supplier\n");
+            s.append("    ) {\n");
+            s.append("        super(\n");
+            s.append("            ").append(bean).append(".class.getAnnotation(plus.kat.anno.Embed.class),\n");
+            s.append("            ").append(bean).append(".class, provider, supplier\n");
+            s.append("        );\n");
+            s.append("    }\n\n");
+
+            s.append("    @Override\n");
+            s.append("    protected void initialize() {\n");
+            s.append(init);
+            s.append("    }\n\n");
+
+            s.append("    @Override\n");
+            s.append("    public ").append(bean).append(" apply(\n");
+            s.append("        plus.kat.chain.Alias alias\n");
+            s.append("    ) {\n");
+            s.append("        return new ").append(bean).append("();\n");
+            s.append("    }\n\n");
+
+            s.append("    @Override\n");
+            s.append("    protected Object onApply(\n");
+            s.append("        ").append(bean).append(" it, int slot\n");
+            s.append("    ) {\n");
+            s.append("        switch (slot) {\n");
+            s.append(getters);
+            s.append("            default: {\n");
+            s.append("                return null;\n");
+            s.append("            }\n");
+            s.append("        }\n");
+            s.append("    }\n\n");
+
+            s.append("    @Override\n");
+            s.append("    protected void onAccept(\n");
+            s.append("        ").append(bean).append(" it, int slot, Object val\n");
+            s.append("    ) {\n");
+            s.append("        switch (slot) {\n");
+            s.append(setters);
+            s.append("        }\n");
+            s.append("    }\n");
+            s.append("}\n");
+            return s.toString();
+        }
+    }
+}
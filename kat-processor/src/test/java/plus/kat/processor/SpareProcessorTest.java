@@ -0,0 +1,108 @@
+package plus.kat.processor;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+import plus.kat.anno.*;
+import plus.kat.reflex.ReflectSpare;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class SpareProcessorTest {
+
+    @Test
+    public void test_alias() {
+        assertEquals("name", SpareProcessor.alias("getName", 0));
+        assertEquals("name", SpareProcessor.alias("setName", 1));
+        assertEquals("admin", SpareProcessor.alias("isAdmin", 0));
+        assertEquals("URL", SpareProcessor.alias("getURL", 0));
+        assertEquals("x", SpareProcessor.alias("getX", 0));
+        assertNull(SpareProcessor.alias("isX", 0));
+        assertNull(SpareProcessor.alias("getname", 0));
+        assertNull(SpareProcessor.alias("setName", 0));
+        assertNull(SpareProcessor.alias("getName", 1));
+    }
+
+    @Test
+    public void test_generated() {
+        Spare<Account> spare =
+            Spare.lookup(Account.class);
+
+        assertTrue(spare instanceof SpareProcessorTest$Account$$Spare);
+        assertTrue(Spare.lookup(Tag.class) instanceof SpareProcessorTest$Tag$$Spare);
+        assertSame(spare, Spare.lookup(Account.class));
+
+        Account account = spare.parse(
+            "{\"id\":1,\"name\":\"kraity\",\"admin\":true,\"created\":\"2022-01-02\",\"tags\":[{\"id\":3,\"title\":\"kat\"}]}"
+        );
+
+        assertNotNull(account);
+        assertEquals(1, account.id);
+        assertEquals("kraity", account.name);
+        assertTrue(account.isAdmin());
+        assertNotNull(account.created);
+        assertEquals(1, account.tags.size());
+        assertEquals(3, account.tags.get(0).id);
+        assertEquals("kat", account.tags.get(0).title);
+
+        assertEquals(
+            "{\"id\":1,\"name\":\"kraity\",\"tags\":[{\"id\":3,\"title\":\"kat\"}],\"created\":\"2022-01-02\",\"admin\":true}",
+            Json.encode(account)
+        );
+    }
+
+    @Test
+    public void test_fallback() {
+        Spare<Secret> spare =
+            Spare.lookup(Secret.class);
+
+        assertTrue(spare instanceof ReflectSpare);
+        Secret secret = spare.parse(
+            "{\"key\":\"kat\"}"
+        );
+
+        assertNotNull(secret);
+        assertEquals("kat", secret.key);
+    }
+
+    @Embed("Account")
+    public static class Account {
+        @Expose("id")
+        public int id;
+        public String name;
+        public List<Tag> tags;
+
+        @Format("yyyy-MM-dd")
+        public Date created;
+
+        private boolean admin;
+
+        public boolean isAdmin() {
+            return admin;
+        }
+
+        public void setAdmin(
+            boolean admin
+        ) {
+            this.admin = admin;
+        }
+    }
+
+    @Embed("Tag")
+    public static class Tag {
+        public int id;
+        public String title;
+    }
+
+    @Embed("Secret")
+    static class Secret {
+        @Expose("key")
+        private String key;
+    }
+}
@@ -16,6 +16,7 @@
 package plus.kat.spring;
 
 import org.springframework.core.GenericTypeResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
@@ -24,11 +25,18 @@ import org.springframework.util.Assert;
 
 import plus.kat.*;
 import plus.kat.chain.*;
+import plus.kat.kernel.*;
+import plus.kat.stream.*;
+import plus.kat.utils.Reflect;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * @author kraity
@@ -42,8 +50,12 @@ public class MutableHttpMessageConverter extends AbstractGenericHttpMessageConve
     protected long readFlags;
     protected long writeFlags;
 
+    protected int bufferLimit = 8192;
     protected MediaType[] mediaTypes;
 
+    protected final Buffer buffer = new Buffer();
+    protected final ConcurrentHashMap<Object, Binding> bindings = new ConcurrentHashMap<>();
+
     /**
      * @param job the specified job
      * @since 0.0.2
@@ -120,23 +132,8 @@ public class MutableHttpMessageConverter extends AbstractGenericHttpMessageConve
         Class<?> cxt,
         HttpInputMessage in
     ) throws IOException, HttpMessageNotReadableException {
-        if (type instanceof Class) {
-            return readInternal(
-                (Class<?>) type, in
-            );
-        }
-
-        Type clazz = GenericTypeResolver
-            .resolveType(
-                type, cxt
-            );
-
-        return supplier.solve(
-            clazz, job, new Event<>(
-                in.getBody()
-            ).with(
-                readFlags
-            )
+        return read(
+            lookup(type, cxt), in
         );
     }
 
@@ -145,15 +142,129 @@ public class MutableHttpMessageConverter extends AbstractGenericHttpMessageConve
         Class<?> clazz,
         HttpInputMessage in
     ) throws IOException, HttpMessageNotReadableException {
-        return supplier.solve(
-            clazz, job, new Event<>(
-                in.getBody()
-            ).with(
-                readFlags
-            )
+        return read(
+            lookup(clazz, null), in
+        );
+    }
+
+    /**
+     * Parses the body of {@link HttpInputMessage} by the specified {@link Binding}
+     *
+     * @param binding the specified binding
+     * @param in      the specified message
+     * @throws IOException If an I/O error occurs
+     * @since 0.0.3
+     */
+    protected Object read(
+        Binding binding,
+        HttpInputMessage in
+    ) throws IOException {
+        if (binding == null) {
+            return null;
+        }
+
+        Event<Object> event;
+        InputStream body = in.getBody();
+
+        long length = in
+            .getHeaders()
+            .getContentLength();
+
+        if (length > 0 &&
+            length <= bufferLimit) {
+            int size = (int) length;
+            byte[] data = new byte[size];
+
+            int i = 0;
+            while (i < size) {
+                int n = body.read(
+                    data, i, size - i
+                );
+                if (n == -1) {
+                    throw new HttpMessageNotReadableException(
+                        "Unexpectedly, the body ended at " + i + " of " + size + " bytes", in
+                    );
+                }
+                i += n;
+            }
+
+            event = new Event<>(
+                data, 0, size
+            );
+        } else {
+            event = new Event<>(body);
+        }
+
+        event.with(readFlags);
+        event.with(supplier);
+        event.prepare(binding.type);
+
+        return binding.spare.solve(
+            job, event
         );
     }
 
+    /**
+     * Returns the cached {@link Binding} of the specified {@link Type} and context class,
+     * the cached spare is checked against the {@link Supplier}, so embed and revoke take effect at once
+     *
+     * @param type the specified type
+     * @param cxt  the specified context class
+     * @since 0.0.3
+     */
+    @SuppressWarnings("unchecked")
+    protected Binding lookup(
+        Type type,
+        Class<?> cxt
+    ) {
+        Object key;
+        if (type instanceof Class) {
+            key = type;
+        } else {
+            key = new Key(type, cxt);
+        }
+
+        Type clazz;
+        Binding binding = bindings.get(key);
+
+        if (binding != null) {
+            clazz = binding.type;
+        } else if (type instanceof Class) {
+            clazz = type;
+        } else {
+            clazz = GenericTypeResolver
+                .resolveType(
+                    type, cxt
+                );
+        }
+
+        Spare<?> spare = Reflect.lookup(
+            clazz, supplier
+        );
+
+        if (binding != null &&
+            binding.spare == spare) {
+            return binding;
+        }
+
+        if (spare == null) {
+            if (binding != null) {
+                bindings.remove(
+                    key, binding
+                );
+            }
+            return null;
+        }
+
+        binding = new Binding(
+            clazz, (Spare<Object>) spare
+        );
+        bindings.put(
+            key, binding
+        );
+        return binding;
+    }
+
     @Override
     protected boolean canWrite(
         MediaType mediaType
@@ -181,19 +292,25 @@ public class MutableHttpMessageConverter extends AbstractGenericHttpMessageConve
         switch (job) {
             case KAT: {
                 chan = new Chan(
-                    writeFlags, supplier
+                    new Chan.Flow(
+                        writeFlags, buffer
+                    ), supplier
                 );
                 break;
             }
             case DOC: {
                 chan = new Doc(
-                    writeFlags, supplier
+                    new Doc.Flow(
+                        writeFlags, buffer
+                    ), supplier
                 );
                 break;
             }
             case JSON: {
                 chan = new Json(
-                    writeFlags, supplier
+                    new Json.Flow(
+                        writeFlags, buffer
+                    ), supplier
                 );
                 break;
             }
@@ -204,15 +321,25 @@ public class MutableHttpMessageConverter extends AbstractGenericHttpMessageConve
             }
         }
 
-        chan.set(
-            null, data
-        );
+        try {
+            chan.set(
+                null, data
+            );
 
-        Paper flow = chan.getFlow();
-        flow.update(
-            output.getBody()
-        );
-        chan.closeFlow();
+            Paper flow = chan.getFlow();
+            HttpHeaders headers = output.getHeaders();
+            if (headers.getContentLength() < 0) {
+                headers.setContentLength(
+                    flow.length()
+                );
+            }
+
+            flow.update(
+                output.getBody()
+            );
+        } finally {
+            chan.closeFlow();
+        }
     }
 
     /**
@@ -232,6 +359,28 @@ public class MutableHttpMessageConverter extends AbstractGenericHttpMessageConve
         return Arrays.asList(mediaTypes);
     }
 
+    /**
+     * Overwrite {@code bufferLimit} over the specified {@code limit},
+     * bodies whose {@code Content-Length} does not exceed it are read into memory at once
+     *
+     * @param limit the specified {@code limit}
+     * @since 0.0.3
+     */
+    public void setBufferLimit(
+        int limit
+    ) {
+        bufferLimit = limit;
+    }
+
+    /**
+     * Returns the {@code bufferLimit} of {@link MutableHttpMessageConverter}
+     *
+     * @since 0.0.3
+     */
+    public int getBufferLimit() {
+        return bufferLimit;
+    }
+
     /**
      * add the {@code flag} on the basis of {@code readFlags}
      *
@@ -297,4 +446,149 @@ public class MutableHttpMessageConverter extends AbstractGenericHttpMessageConve
     public long getWriteFlags() {
         return writeFlags;
     }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    public static class Binding {
+
+        protected final Type type;
+        protected final Spare<Object> spare;
+
+        public Binding(
+            Type type,
+            Spare<Object> spare
+        ) {
+            this.type = type;
+            this.spare = spare;
+        }
+
+        /**
+         * Returns the resolved {@link Type}
+         */
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * Returns the bound {@link Spare}
+         */
+        public Spare<Object> getSpare() {
+            return spare;
+        }
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    static final class Key {
+
+        final Type type;
+        final Class<?> cxt;
+
+        Key(
+            Type type,
+            Class<?> cxt
+        ) {
+            this.type = type;
+            this.cxt = cxt;
+        }
+
+        @Override
+        public int hashCode() {
+            return type.hashCode() * 31 + Objects.hashCode(cxt);
+        }
+
+        @Override
+        public boolean equals(
+            Object o
+        ) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o instanceof Key) {
+                Key k = (Key) o;
+                return cxt == k.cxt && type.equals(k.type);
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * The {@link Bucket} of the encoder buffers of this converter, which keeps
+     * the buffers up to {@link #LIMIT} bytes for the next writes, so that a
+     * body larger than the shared bucket groups is not reallocated every time
+     *
+     * @author kraity
+     * @since 0.0.3
+     */
+    public static class Buffer extends AtomicReferenceArray<byte[]> implements Bucket {
+
+        static final int SIZE = 8;
+        static final int SCALE = 1024;
+        static final int LIMIT = 1024 * 1024;
+
+        public Buffer() {
+            super(SIZE);
+        }
+
+        @Override
+        public byte[] alloc(
+            byte[] it, int len, int min
+        ) {
+            byte[] data = null;
+            for (int i = 0; i < SIZE; i++) {
+                byte[] b = get(i);
+                if (b != null && b.length >= min &&
+                    compareAndSet(i, b, null)) {
+                    data = b;
+                    break;
+                }
+            }
+
+            if (data == null) {
+                int cap = it.length +
+                    (it.length >> 1);
+                if (cap < min) cap = min;
+                if (cap < SCALE) cap = SCALE;
+                data = new byte[cap];
+            }
+
+            if (it.length != 0) {
+                System.arraycopy(
+                    it, 0, data, 0, len
+                );
+                push(it);
+            }
+            return data;
+        }
+
+        @Override
+        public void push(
+            byte[] it
+        ) {
+            if (it.length <= LIMIT) {
+                for (int i = 0; i < SIZE; i++) {
+                    if (get(i) == null &&
+                        compareAndSet(i, null, it)) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public byte[] revert(
+            byte[] it
+        ) {
+            if (it.length != 0) {
+                push(it);
+            }
+            return Chain.EMPTY_BYTES;
+        }
+    }
 }
@@ -3,14 +3,20 @@ package plus.kat.spring;
 import org.junit.jupiter.api.Test;
 
 import plus.kat.Job;
+import plus.kat.Spare;
+import plus.kat.Supplier;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 
 import java.io.*;
+import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 public class MutableHttpMessageConverterTest {
 
+    static List<User> users;
+
     @Test
     public void test() throws IOException {
         HashMap<Job, String> in = new HashMap<>();
@@ -102,6 +110,158 @@ public class MutableHttpMessageConverterTest {
         }
     }
 
+    @Test
+    public void test_binding() throws Exception {
+        MutableHttpMessageConverter converter =
+            new MutableHttpMessageConverter(Job.JSON);
+
+        Type type = MutableHttpMessageConverterTest.class
+            .getDeclaredField("users").getGenericType();
+
+        byte[] data = "[{\"id\":1,\"name\":\"kraity\"},{\"id\":2,\"name\":\"kat\"}]".getBytes(UTF_8);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentLength(data.length);
+
+        for (int i = 0; i < 2; i++) {
+            Object result = converter.read(
+                type, null, new HttpInputMessage() {
+                    @Override
+                    public InputStream getBody() {
+                        return new ByteArrayInputStream(data);
+                    }
+
+                    @Override
+                    public HttpHeaders getHeaders() {
+                        return headers;
+                    }
+                }
+            );
+
+            assertTrue(result instanceof List);
+            List<?> list = (List<?>) result;
+            assertEquals(2, list.size());
+            assertEquals("kat", ((User) list.get(1)).name);
+        }
+    }
+
+    @Test
+    public void test_binding_cache() throws Exception {
+        MutableHttpMessageConverter converter =
+            new MutableHttpMessageConverter(Job.JSON);
+
+        Type type = MutableHttpMessageConverterTest.class
+            .getDeclaredField("users").getGenericType();
+
+        assertSame(
+            converter.lookup(User.class, null),
+            converter.lookup(User.class, null)
+        );
+        assertSame(
+            converter.lookup(type, null),
+            converter.lookup(type, null)
+        );
+    }
+
+    @Test
+    public void test_binding_revoke() {
+        Supplier supplier = Supplier.ins();
+        MutableHttpMessageConverter converter =
+            new MutableHttpMessageConverter(Job.JSON, supplier);
+
+        Spare<?> spare = converter.lookup(User.class, null).getSpare();
+        Spare<?> other = supplier.lookup(Other.class);
+        assertNotNull(other);
+
+        supplier.embed(User.class, other);
+        try {
+            assertSame(other, converter.lookup(User.class, null).getSpare());
+        } finally {
+            supplier.revoke(User.class);
+        }
+
+        Spare<?> next = converter.lookup(User.class, null).getSpare();
+        assertNotSame(other, next);
+        assertNotSame(spare, next);
+    }
+
+    @Test
+    public void test_content_length() throws IOException {
+        MutableHttpMessageConverter converter =
+            new MutableHttpMessageConverter(Job.JSON);
+
+        User user = new User();
+        user.id = 1;
+        user.name = "kraity";
+
+        HttpHeaders headers = new HttpHeaders();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        converter.write(
+            user, User.class, MediaType.APPLICATION_JSON, new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return output;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+            }
+        );
+
+        assertEquals("{\"name\":\"kraity\",\"id\":1}", output.toString("UTF-8"));
+        assertEquals(output.size(), headers.getContentLength());
+    }
+
+    @Test
+    public void test_truncated_body() {
+        MutableHttpMessageConverter converter =
+            new MutableHttpMessageConverter(Job.JSON);
+
+        byte[] data = "{\"id\":1,\"name\":\"kraity\"}".getBytes(UTF_8);
+        for (byte[] body : new byte[][]{
+            Arrays.copyOf(data, 8), new byte[0]
+        }) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentLength(data.length);
+
+            assertThrows(HttpMessageNotReadableException.class, () ->
+                converter.read(
+                    User.class, null, new HttpInputMessage() {
+                        @Override
+                        public InputStream getBody() {
+                            return new ByteArrayInputStream(body);
+                        }
+
+                        @Override
+                        public HttpHeaders getHeaders() {
+                            return headers;
+                        }
+                    }
+                )
+            );
+        }
+    }
+
+    @Test
+    public void test_buffer() {
+        MutableHttpMessageConverter.Buffer buffer =
+            new MutableHttpMessageConverter.Buffer();
+
+        byte[] data = buffer.alloc(
+            new byte[0], 0, 64 * 1024
+        );
+        assertEquals(64 * 1024, data.length);
+
+        buffer.push(data);
+        assertSame(data, buffer.alloc(
+            new byte[0], 0, 32 * 1024
+        ));
+        assertNotSame(data, buffer.alloc(
+            new byte[0], 0, 32 * 1024
+        ));
+    }
+
     static class User {
         private int id;
         private String name;
@@ -126,4 +286,18 @@ public class MutableHttpMessageConverterTest {
             return name;
         }
     }
+
+    static class Other {
+        private String name;
+
+        public void setName(
+            String name
+        ) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
 }
@@ -23,6 +23,8 @@ import plus.kat.chain.*;
 import plus.kat.crash.*;
 import plus.kat.entity.*;
 import plus.kat.stream.*;
+import plus.kat.utils.Flight;
+import plus.kat.utils.Meter;
 
 import java.util.*;
 
@@ -102,11 +104,9 @@ public class Chan implements Flag {
         @Nullable Object value
     ) {
         this();
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -118,11 +118,9 @@ public class Chan implements Flag {
         @Nullable Object value
     ) {
         this();
-        try {
-            set(alias, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            alias, null, null, null, value
+        );
     }
 
     /**
@@ -133,11 +131,9 @@ public class Chan implements Flag {
         @Nullable Object value, long flags
     ) {
         this(flags);
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -150,11 +146,9 @@ public class Chan implements Flag {
         @Nullable Object value, long flags
     ) {
         this(flags);
-        try {
-            set(alias, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            alias, null, null, null, value
+        );
     }
 
     /**
@@ -164,11 +158,9 @@ public class Chan implements Flag {
         @Nullable Action action
     ) {
         this();
-        try {
-            set(null, action);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, action, null, null
+        );
     }
 
     /**
@@ -180,11 +172,9 @@ public class Chan implements Flag {
         @Nullable Action action
     ) {
         this();
-        try {
-            set(null, space, action);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, space, action, null, null
+        );
     }
 
     /**
@@ -198,11 +188,9 @@ public class Chan implements Flag {
         @Nullable Action action
     ) {
         this();
-        try {
-            set(alias, space, action);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            alias, space, action, null, null
+        );
     }
 
     /**
@@ -214,11 +202,9 @@ public class Chan implements Flag {
         @Nullable Object value
     ) {
         this();
-        try {
-            set(null, coder, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, coder, value
+        );
     }
 
     /**
@@ -231,11 +217,9 @@ public class Chan implements Flag {
         @Nullable Object value, long flags
     ) {
         this(flags);
-        try {
-            set(null, coder, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, coder, value
+        );
     }
 
     /**
@@ -247,11 +231,9 @@ public class Chan implements Flag {
         @Nullable Object value
     ) {
         this(supplier);
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -264,11 +246,9 @@ public class Chan implements Flag {
         @Nullable Object value, long flags
     ) {
         this(flags, supplier);
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -285,6 +265,43 @@ public class Chan implements Flag {
         ) throws IOCrash;
     }
 
+    /**
+     * Caches the {@link Coder} of the classes without {@link Spare},
+     * which only depends on the hierarchy of the class
+     *
+     * @author kraity
+     * @since 0.0.3
+     */
+    static final class Fallback extends ClassValue<Coder<?>> {
+        /**
+         * default fallback
+         */
+        static final Fallback INS = new Fallback();
+
+        @Override
+        protected Coder<?> computeValue(
+            @NotNull Class<?> klass
+        ) {
+            if (Map.class.isAssignableFrom(klass)) {
+                return MapSpare.INSTANCE;
+            }
+
+            if (List.class.isAssignableFrom(klass)) {
+                return ListSpare.INSTANCE;
+            }
+
+            if (Set.class.isAssignableFrom(klass)) {
+                return SetSpare.INSTANCE;
+            }
+
+            if (Iterable.class.isAssignableFrom(klass)) {
+                return IterableSpare.INSTANCE;
+            }
+
+            return null;
+        }
+    }
+
     /**
      * Serializes the specified {@code alias} and {@code value} at the current hierarchy
      *
@@ -422,6 +439,254 @@ public class Chan implements Flag {
         );
     }
 
+    /**
+     * Serializes the specified {@code alias} and {@code int} value at the current hierarchy without boxing
+     *
+     * <pre>{@code
+     *  Chan chan = ...
+     *  chan.set("value", 1);
+     * }</pre>
+     *
+     * @return {@code true} if successful
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public boolean set(
+        @Nullable CharSequence alias,
+        int value
+    ) throws IOCrash {
+        IntegerSpare spare = IntegerSpare.INSTANCE;
+        if (supplier.lookup(Integer.class) != spare) {
+            return set(
+                alias, (Integer) value
+            );
+        }
+
+        leading(alias, spare);
+        spare.writeInt(
+            getFlow(), value
+        );
+        trailing(alias, spare);
+        return true;
+    }
+
+    /**
+     * Serializes the specified {@code alias} and {@code long} value at the current hierarchy without boxing
+     *
+     * <pre>{@code
+     *  Chan chan = ...
+     *  chan.set("value", 1L);
+     * }</pre>
+     *
+     * @return {@code true} if successful
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public boolean set(
+        @Nullable CharSequence alias,
+        long value
+    ) throws IOCrash {
+        LongSpare spare = LongSpare.INSTANCE;
+        if (supplier.lookup(Long.class) != spare) {
+            return set(
+                alias, (Long) value
+            );
+        }
+
+        leading(alias, spare);
+        spare.writeLong(
+            getFlow(), value
+        );
+        trailing(alias, spare);
+        return true;
+    }
+
+    /**
+     * Serializes the specified {@code alias} and {@code float} value at the current hierarchy without boxing
+     *
+     * <pre>{@code
+     *  Chan chan = ...
+     *  chan.set("value", 1.5F);
+     * }</pre>
+     *
+     * @return {@code true} if successful
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public boolean set(
+        @Nullable CharSequence alias,
+        float value
+    ) throws IOCrash {
+        FloatSpare spare = FloatSpare.INSTANCE;
+        if (supplier.lookup(Float.class) != spare) {
+            return set(
+                alias, (Float) value
+            );
+        }
+
+        leading(alias, spare);
+        spare.writeFloat(
+            getFlow(), value
+        );
+        trailing(alias, spare);
+        return true;
+    }
+
+    /**
+     * Serializes the specified {@code alias} and {@code double} value at the current hierarchy without boxing
+     *
+     * <pre>{@code
+     *  Chan chan = ...
+     *  chan.set("value", 1.5D);
+     * }</pre>
+     *
+     * @return {@code true} if successful
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public boolean set(
+        @Nullable CharSequence alias,
+        double value
+    ) throws IOCrash {
+        DoubleSpare spare = DoubleSpare.INSTANCE;
+        if (supplier.lookup(Double.class) != spare) {
+            return set(
+                alias, (Double) value
+            );
+        }
+
+        leading(alias, spare);
+        spare.writeDouble(
+            getFlow(), value
+        );
+        trailing(alias, spare);
+        return true;
+    }
+
+    /**
+     * Serializes the specified {@code alias} and {@code boolean} value at the current hierarchy without boxing
+     *
+     * <pre>{@code
+     *  Chan chan = ...
+     *  chan.set("value", true);
+     * }</pre>
+     *
+     * @return {@code true} if successful
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public boolean set(
+        @Nullable CharSequence alias,
+        boolean value
+    ) throws IOCrash {
+        BooleanSpare spare = BooleanSpare.INSTANCE;
+        if (supplier.lookup(Boolean.class) != spare) {
+            return set(
+                alias, (Boolean) value
+            );
+        }
+
+        leading(alias, spare);
+        spare.writeBoolean(
+            getFlow(), value
+        );
+        trailing(alias, spare);
+        return true;
+    }
+
+    /**
+     * Serializes the specified {@code alias} and {@code short} value at the current hierarchy without boxing
+     *
+     * <pre>{@code
+     *  Chan chan = ...
+     *  chan.set("value", (short) 1);
+     * }</pre>
+     *
+     * @return {@code true} if successful
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public boolean set(
+        @Nullable CharSequence alias,
+        short value
+    ) throws IOCrash {
+        ShortSpare spare = ShortSpare.INSTANCE;
+        if (supplier.lookup(Short.class) != spare) {
+            return set(
+                alias, (Short) value
+            );
+        }
+
+        leading(alias, spare);
+        spare.writeShort(
+            getFlow(), value
+        );
+        trailing(alias, spare);
+        return true;
+    }
+
+    /**
+     * Serializes the specified {@code alias} and {@code byte} value at the current hierarchy without boxing
+     *
+     * <pre>{@code
+     *  Chan chan = ...
+     *  chan.set("value", (byte) 1);
+     * }</pre>
+     *
+     * @return {@code true} if successful
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public boolean set(
+        @Nullable CharSequence alias,
+        byte value
+    ) throws IOCrash {
+        ByteSpare spare = ByteSpare.INSTANCE;
+        if (supplier.lookup(Byte.class) != spare) {
+            return set(
+                alias, (Byte) value
+            );
+        }
+
+        leading(alias, spare);
+        spare.writeByte(
+            getFlow(), value
+        );
+        trailing(alias, spare);
+        return true;
+    }
+
+    /**
+     * Serializes the specified {@code alias} and {@code char} value at the current hierarchy without boxing
+     *
+     * <pre>{@code
+     *  Chan chan = ...
+     *  chan.set("value", 'k');
+     * }</pre>
+     *
+     * @return {@code true} if successful
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public boolean set(
+        @Nullable CharSequence alias,
+        char value
+    ) throws IOCrash {
+        CharSpare spare = CharSpare.INSTANCE;
+        if (supplier.lookup(Character.class) != spare) {
+            return set(
+                alias, (Character) value
+            );
+        }
+
+        leading(alias, spare);
+        spare.writeChar(
+            getFlow(), value
+        );
+        trailing(alias, spare);
+        return true;
+    }
+
     /**
      * Writes the specified {@code alias}
      *
@@ -453,27 +718,12 @@ public class Chan implements Flag {
             );
         }
 
-        if (value instanceof Map) {
-            return coding(
-                alias, MapSpare.INSTANCE, value
-            );
-        }
+        Coder<?> coder = Fallback
+            .INS.get(value.getClass());
 
-        if (value instanceof List) {
+        if (coder != null) {
             return coding(
-                alias, ListSpare.INSTANCE, value
-            );
-        }
-
-        if (value instanceof Set) {
-            return coding(
-                alias, SetSpare.INSTANCE, value
-            );
-        }
-
-        if (value instanceof Iterable) {
-            return coding(
-                alias, IterableSpare.INSTANCE, value
+                alias, coder, value
             );
         }
 
@@ -537,6 +787,34 @@ public class Chan implements Flag {
         return true;
     }
 
+    /**
+     * Writes the specified {@code alias} and the head of a scalar value of the specified {@link Coder}
+     *
+     * @since 0.0.3
+     */
+    protected void leading(
+        @Nullable CharSequence alias,
+        @NotNull Coder<?> coder
+    ) {
+        flow.addSpace(
+            coder.getSpace()
+        );
+        flow.addAlias(alias);
+        flow.leftParen();
+    }
+
+    /**
+     * Writes the tail of a scalar value of the specified {@link Coder}
+     *
+     * @since 0.0.3
+     */
+    protected void trailing(
+        @Nullable CharSequence alias,
+        @NotNull Coder<?> coder
+    ) {
+        flow.rightParen();
+    }
+
     /**
      * Check if this {@link Flow} use the {@code flag}
      *
@@ -549,6 +827,46 @@ public class Chan implements Flag {
         return flow.isFlag(flag);
     }
 
+    /**
+     * Serializes the specified {@code value} or {@code action} at the current hierarchy,
+     * and reports it to the {@link Meter} and the {@link Flight}
+     *
+     * @param alias  the alias
+     * @param space  the space of {@code action}
+     * @param action the specified {@code action}
+     * @param coder  the coder of {@code value}
+     * @param value  the specified {@code value}
+     * @since 0.0.3
+     */
+    final void encoding(
+        @Nullable CharSequence alias,
+        @Nullable CharSequence space,
+        @Nullable Action action,
+        @Nullable Coder<?> coder,
+        @Nullable Object value
+    ) {
+        Object flight = Flight.begin(Flight.ENCODE);
+        long start = Meter.ENABLED ? System.nanoTime() : 0L;
+        try {
+            if (action != null) {
+                set(alias, space, action);
+            } else {
+                set(alias, coder, value);
+            }
+        } catch (Exception e) {
+            // Nothing
+        }
+
+        if (Meter.ENABLED) {
+            Meter.INS.encoded(
+                getJob(), System.nanoTime() - start, getFlow().length()
+            );
+        }
+        Flight.commit(
+            flight, getJob(), action != null ? action : value, getFlow().length()
+        );
+    }
+
     /**
      * Returns the job of {@link Chan}
      */
@@ -557,6 +875,21 @@ public class Chan implements Flag {
         return Job.KAT;
     }
 
+    /**
+     * Returns a new empty {@link Chan} of the same kind with the same flags, depth and supplier,
+     * whose flow is forked by {@link Paper#fork()}. A slice written into the fork on another
+     * thread is appended back to this in order with {@link Paper#join(Paper)}, and the fork
+     * must be closed by {@link #closeFlow()} afterwards, as {@link plus.kat.spare.Splitter} does
+     *
+     * @since 0.0.3
+     */
+    @NotNull
+    public Chan fork() {
+        return new Chan(
+            flow.fork(), supplier
+        );
+    }
+
     /**
      * Returns the internal {@link Paper}
      *
@@ -621,6 +954,12 @@ public class Chan implements Flag {
      * @since 0.0.1
      */
     public static class Flow extends Paper {
+        /**
+         * The bytes escaped by {@link #record(byte)}
+         */
+        private static final boolean[]
+            RECORDS = table('^', '(', ')');
+
         /**
          * default
          */
@@ -646,6 +985,18 @@ public class Chan implements Flag {
             super(bucket);
         }
 
+        /**
+         * @param flags  the specified {@code flags}
+         * @param bucket the specified {@link Bucket} to be used
+         * @since 0.0.3
+         */
+        public Flow(
+            long flags,
+            @Nullable Bucket bucket
+        ) {
+            super(flags, bucket);
+        }
+
         /**
          * Returns the job
          */
@@ -654,6 +1005,19 @@ public class Chan implements Flag {
             return Job.KAT;
         }
 
+        /**
+         * {@inheritDoc}
+         *
+         * @since 0.0.3
+         */
+        @NotNull
+        @Override
+        public Flow fork() {
+            Flow flow = new Flow(flags);
+            flow.depth = depth;
+            return flow;
+        }
+
         /**
          * Writes left paren
          */
@@ -764,6 +1128,14 @@ public class Chan implements Flag {
         ) {
             if (c == null) return;
 
+            if (c instanceof Label) {
+                byte[] b = ((Label) c).leading(Job.KAT);
+                if (b != null) {
+                    chain(b, 0, b.length);
+                    return;
+                }
+            }
+
             int i = 0,
                 l = c.length();
             grow(count + l + 1);
@@ -852,6 +1224,12 @@ public class Chan implements Flag {
             }
         }
 
+        @NotNull
+        @Override
+        protected boolean[] records() {
+            return RECORDS;
+        }
+
         @Override
         protected boolean record(
             byte data
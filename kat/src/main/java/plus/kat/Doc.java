@@ -95,11 +95,9 @@ public class Doc extends Chan {
         @Nullable Object value
     ) {
         this();
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -111,11 +109,9 @@ public class Doc extends Chan {
         @Nullable Object value
     ) {
         this();
-        try {
-            set(alias, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            alias, null, null, null, value
+        );
     }
 
     /**
@@ -125,11 +121,9 @@ public class Doc extends Chan {
         @Nullable Object value, long flags
     ) {
         this(flags);
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -142,11 +136,9 @@ public class Doc extends Chan {
         @Nullable Object value, long flags
     ) {
         this(flags);
-        try {
-            set(alias, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            alias, null, null, null, value
+        );
     }
 
     /**
@@ -158,11 +150,9 @@ public class Doc extends Chan {
         @Nullable Action action
     ) {
         this();
-        try {
-            set(alias, action);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            alias, null, action, null, null
+        );
     }
 
     /**
@@ -175,11 +165,9 @@ public class Doc extends Chan {
         @Nullable Action action, long flags
     ) {
         this(flags);
-        try {
-            set(alias, action);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            alias, null, action, null, null
+        );
     }
 
     /**
@@ -191,11 +179,9 @@ public class Doc extends Chan {
         @Nullable Object value
     ) {
         this();
-        try {
-            set(null, coder, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, coder, value
+        );
     }
 
     /**
@@ -208,11 +194,9 @@ public class Doc extends Chan {
         @Nullable Object value, long flags
     ) {
         this(flags);
-        try {
-            set(null, coder, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, coder, value
+        );
     }
 
     /**
@@ -224,11 +208,9 @@ public class Doc extends Chan {
         @Nullable Object value
     ) {
         this(supplier);
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -241,11 +223,9 @@ public class Doc extends Chan {
         @Nullable Object value, long flags
     ) {
         this(flags, supplier);
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -379,6 +359,36 @@ public class Doc extends Chan {
         return true;
     }
 
+    /**
+     * Writes the specified {@code alias} and the head of a scalar value of the specified {@link Coder}
+     *
+     * @since 0.0.3
+     */
+    @Override
+    protected void leading(
+        @Nullable CharSequence alias,
+        @NotNull Coder<?> coder
+    ) {
+        flow.leftAlias(
+            alias != null ? alias : coder.getSpace(), null
+        );
+    }
+
+    /**
+     * Writes the tail of a scalar value of the specified {@link Coder}
+     *
+     * @since 0.0.3
+     */
+    @Override
+    protected void trailing(
+        @Nullable CharSequence alias,
+        @NotNull Coder<?> coder
+    ) {
+        flow.rightAlias(
+            alias != null ? alias : coder.getSpace(), null
+        );
+    }
+
     /**
      * Check if this {@link Flow} use the {@code flag}
      *
@@ -400,6 +410,19 @@ public class Doc extends Chan {
         return Job.DOC;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.0.3
+     */
+    @NotNull
+    @Override
+    public Doc fork() {
+        return new Doc(
+            flow.fork(), supplier
+        );
+    }
+
     /**
      * Returns the internal {@link Paper}
      */
@@ -576,6 +599,12 @@ public class Doc extends Chan {
      * @since 0.0.1
      */
     public static class Flow extends Paper {
+        /**
+         * The bytes escaped by {@link #record(byte)}
+         */
+        private static final boolean[]
+            RECORDS = table('<', '>', '&');
+
         /**
          * default
          */
@@ -601,6 +630,18 @@ public class Doc extends Chan {
             super(bucket);
         }
 
+        /**
+         * @param flags  the specified {@code flags}
+         * @param bucket the specified {@link Bucket} to be used
+         * @since 0.0.3
+         */
+        public Flow(
+            long flags,
+            @Nullable Bucket bucket
+        ) {
+            super(flags, bucket);
+        }
+
         /**
          * Returns the job
          */
@@ -609,6 +650,19 @@ public class Doc extends Chan {
             return Job.DOC;
         }
 
+        /**
+         * {@inheritDoc}
+         *
+         * @since 0.0.3
+         */
+        @NotNull
+        @Override
+        public Flow fork() {
+            Flow flow = new Flow(flags);
+            flow.depth = depth;
+            return flow;
+        }
+
         /**
          * Writes left alias
          */
@@ -630,6 +684,14 @@ public class Doc extends Chan {
                 }
             }
 
+            if (c instanceof Label) {
+                byte[] b = ((Label) c).leading(Job.DOC);
+                if (b != null) {
+                    chain(b, 0, b.length);
+                    return;
+                }
+            }
+
             int i = 0,
                 l = c.length();
             grow(count + l + 2);
@@ -671,6 +733,14 @@ public class Doc extends Chan {
                 }
             }
 
+            if (c instanceof Label) {
+                byte[] b = ((Label) c).trailing();
+                if (b != null) {
+                    chain(b, 0, b.length);
+                    return;
+                }
+            }
+
             int i = 0,
                 l = c.length();
             grow(count + l + 3);
@@ -691,6 +761,12 @@ public class Doc extends Chan {
             value[count++] = '>';
         }
 
+        @NotNull
+        @Override
+        protected boolean[] records() {
+            return RECORDS;
+        }
+
         @Override
         protected boolean record(
             byte data
@@ -21,7 +21,9 @@ import plus.kat.anno.Nullable;
 import java.io.*;
 import java.lang.reflect.*;
 import java.net.*;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import javax.crypto.Cipher;
 
 import plus.kat.chain.*;
@@ -665,6 +667,62 @@ public class Event<T> implements Flag {
         );
     }
 
+    /**
+     * For example
+     * <pre>{@code
+     *   Event.mmap(Paths.get("./test/entity/users.kat"));
+     * }</pre>
+     *
+     * @param path the file path
+     * @throws NullPointerException If the specified {@code path} is null
+     * @throws IOException          If an I/O error occurs while opening the file
+     * @see FileChannel#open(Path, java.nio.file.OpenOption...)
+     * @see MappedReader#MappedReader(FileChannel)
+     * @since 0.0.3
+     */
+    @NotNull
+    public static <T> Event<T> mmap(
+        @NotNull Path path
+    ) throws IOException {
+        FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.READ
+        );
+        try {
+            return new Event<>(
+                new MappedReader(channel)
+            );
+        } catch (IOCrash e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * For example
+     * <pre>{@code
+     *   Event.channel(Paths.get("./test/entity/users.kat"));
+     * }</pre>
+     *
+     * @param path the file path
+     * @throws NullPointerException If the specified {@code path} is null
+     * @throws IOException          If an I/O error occurs while opening the file
+     * @see FileChannel#open(Path, java.nio.file.OpenOption...)
+     * @see ChannelReader#ChannelReader(java.nio.channels.ReadableByteChannel)
+     * @since 0.0.3
+     */
+    @NotNull
+    public static <T> Event<T> channel(
+        @NotNull Path path
+    ) throws IOException {
+        return new Event<>(
+            new ChannelReader(
+                FileChannel.open(
+                    path, StandardOpenOption.READ
+                )
+            )
+        );
+    }
+
     /**
      * For example
      * <pre>{@code
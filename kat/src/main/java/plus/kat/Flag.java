@@ -29,6 +29,7 @@ public interface Flag {
     long FLOAT_AS_BITMAP = 0x8;
     long DATE_AS_TIMESTAMP = 0x10;
     long INSTANT_AS_TIMESTAMP = 0x20;
+    long PARALLEL = 0x40;
 
     /**
      * Read Flags
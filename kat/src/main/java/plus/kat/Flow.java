@@ -202,6 +202,27 @@ public interface Flow extends Flag, Appendable {
         long num, int shift, int length
     ) throws IOCrash;
 
+    /**
+     * add a uuid in its canonical form to this {@link Flow}
+     *
+     * <pre>{@code
+     *   Flow flow = ...
+     *   UUID uuid = ...
+     *   flow.addUUID(
+     *       uuid.getMostSignificantBits(),
+     *       uuid.getLeastSignificantBits()
+     *   ); // 00000000-0000-0000-0000-000000000000
+     * }</pre>
+     *
+     * @param most  the most significant 64 bits of the uuid
+     * @param least the least significant 64 bits of the uuid
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    void addUUID(
+        long most, long least
+    ) throws IOCrash;
+
     /**
      * add a float value to this {@link Flow}
      *
@@ -97,11 +97,9 @@ public class Json extends Chan {
         @Nullable Object value
     ) {
         this();
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -112,11 +110,9 @@ public class Json extends Chan {
         @Nullable Object value, long flags
     ) {
         this(flags);
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -126,11 +122,9 @@ public class Json extends Chan {
         @Nullable Action action
     ) {
         this();
-        try {
-            set(null, action);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, action, null, null
+        );
     }
 
     /**
@@ -142,11 +136,9 @@ public class Json extends Chan {
         @Nullable Object value
     ) {
         this();
-        try {
-            set(null, coder, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, coder, value
+        );
     }
 
     /**
@@ -159,11 +151,9 @@ public class Json extends Chan {
         @Nullable Object value, long flags
     ) {
         this(flags);
-        try {
-            set(null, coder, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, coder, value
+        );
     }
 
     /**
@@ -175,11 +165,9 @@ public class Json extends Chan {
         @Nullable Object value
     ) {
         this(supplier);
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -192,11 +180,9 @@ public class Json extends Chan {
         @Nullable Object value, long flags
     ) {
         this(flags, supplier);
-        try {
-            set(null, value);
-        } catch (Exception e) {
-            // Nothing
-        }
+        encoding(
+            null, null, null, null, value
+        );
     }
 
     /**
@@ -338,6 +324,38 @@ public class Json extends Chan {
         return true;
     }
 
+    /**
+     * Writes the specified {@code alias} and the head of a scalar value of the specified {@link Coder}
+     *
+     * @since 0.0.3
+     */
+    @Override
+    protected void leading(
+        @Nullable CharSequence alias,
+        @NotNull Coder<?> coder
+    ) {
+        flow.addComma();
+        flow.addAlias(alias);
+        if (!(coder instanceof Serializable)) {
+            flow.addQuote();
+        }
+    }
+
+    /**
+     * Writes the tail of a scalar value of the specified {@link Coder}
+     *
+     * @since 0.0.3
+     */
+    @Override
+    protected void trailing(
+        @Nullable CharSequence alias,
+        @NotNull Coder<?> coder
+    ) {
+        if (!(coder instanceof Serializable)) {
+            flow.addQuote();
+        }
+    }
+
     /**
      * Check if this {@link Flow} use the {@code flag}
      *
@@ -359,6 +377,19 @@ public class Json extends Chan {
         return Job.JSON;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.0.3
+     */
+    @NotNull
+    @Override
+    public Json fork() {
+        return new Json(
+            flow.fork(), supplier
+        );
+    }
+
     /**
      * Returns the internal {@link Paper}
      */
@@ -550,6 +581,18 @@ public class Json extends Chan {
             super(bucket);
         }
 
+        /**
+         * @param flags  the specified {@code flags}
+         * @param bucket the specified {@link Bucket} to be used
+         * @since 0.0.3
+         */
+        public Flow(
+            long flags,
+            @Nullable Bucket bucket
+        ) {
+            super(flags, bucket);
+        }
+
         /**
          * Returns the job
          */
@@ -558,6 +601,36 @@ public class Json extends Chan {
             return Job.JSON;
         }
 
+        /**
+         * {@inheritDoc}
+         *
+         * @since 0.0.3
+         */
+        @NotNull
+        @Override
+        public Flow fork() {
+            Flow flow = new Flow(flags);
+            flow.depth = depth;
+            return flow;
+        }
+
+        /**
+         * Appends the bytes of the specified {@link Paper},
+         * separated by a comma if anything has been written before
+         *
+         * @param paper the specified paper
+         * @since 0.0.3
+         */
+        @Override
+        public void join(
+            @NotNull Paper paper
+        ) {
+            if (paper.length() != 0) {
+                addComma();
+                super.join(paper);
+            }
+        }
+
         /**
          * Writers left brace
          */
@@ -680,6 +753,14 @@ public class Json extends Chan {
             // skip if null
             if (c == null) return;
 
+            if (c instanceof Label) {
+                byte[] b = ((Label) c).leading(Job.JSON);
+                if (b != null) {
+                    chain(b, 0, b.length);
+                    return;
+                }
+            }
+
             int i = 0,
                 l = c.length();
             grow(count + l + 3);
@@ -439,6 +439,76 @@ public interface Spare<K> extends Coder<K> {
          */
         final Provider[] providers;
 
+        /**
+         * classes without spare
+         */
+        final Absent absent =
+            new Absent();
+
+        /**
+         * resolved spares of class
+         */
+        final Mirror mirror =
+            new Mirror(this);
+
+        /**
+         * spares in building
+         */
+        final ConcurrentHashMap<Class<?>, Build> builds =
+            new ConcurrentHashMap<>();
+
+        /**
+         * builds that threads are waiting for
+         */
+        final ConcurrentHashMap<Thread, Build> waits =
+            new ConcurrentHashMap<>();
+
+        /**
+         * Associates the specified {@link Spare} with the specified {@link Type},
+         * and forgets that the specified {@link Type} had no spare before
+         *
+         * @throws NullPointerException If the specified {@code type} or {@code spare} is null
+         */
+        @Override
+        public Spare<?> put(
+            @NotNull Type type,
+            @NotNull Spare<?> spare
+        ) {
+            Spare<?> it = super.put(
+                type, spare
+            );
+            if (type instanceof Class) {
+                absent.remove(
+                    (Class<?>) type
+                );
+                mirror.remove(
+                    (Class<?>) type
+                );
+            }
+            return it;
+        }
+
+        /**
+         * Removes the {@link Spare} of the specified {@link Type}
+         *
+         * @throws NullPointerException If the specified {@code type} is null
+         */
+        @Override
+        public Spare<?> remove(
+            @NotNull Object type
+        ) {
+            Spare<?> it = super.remove(type);
+            if (type instanceof Class) {
+                absent.remove(
+                    (Class<?>) type
+                );
+                mirror.remove(
+                    (Class<?>) type
+                );
+            }
+            return it;
+        }
+
         /**
          * Embeds {@link Spare} of the specified {@link Class}
          *
@@ -450,20 +520,27 @@ public interface Spare<K> extends Coder<K> {
             @NotNull Class<T> klass,
             @NotNull Supplier supplier
         ) {
-            Spare<?> spare = get(klass);
+            Spare<?> spare = mirror.get(klass);
 
             if (spare != null) {
                 return (Spare<T>) spare;
             }
 
+            if (absent.get(klass)[0]) {
+                return null;
+            }
+
+            boolean failed = false;
             for (Provider p : providers) {
                 try {
                     spare = p.lookup(
                         klass, supplier
                     );
                 } catch (RunCrash e) {
-                    return null;
+                    failed = true;
+                    break;
                 } catch (Exception e) {
+                    failed = true;
                     continue;
                 }
 
@@ -472,6 +549,17 @@ public interface Spare<K> extends Coder<K> {
                 }
             }
 
+            // double-checking
+            spare = get(klass);
+            if (spare != null) {
+                return (Spare<T>) spare;
+            }
+
+            // a failure may be temporary,
+            // so only mark the unsupported
+            if (!failed && unsupported(klass)) {
+                absent.get(klass)[0] = true;
+            }
             return null;
         }
 
@@ -555,37 +643,177 @@ public interface Spare<K> extends Coder<K> {
                 return null;
             }
 
-            Class<?> sc = klass.getSuperclass();
-            if (sc == Enum.class) {
-                put(klass, spare =
-                    new EnumSpare(
+            // only one thread builds the spare of this klass,
+            // the others wait for its build instead of a shared lock
+            Build build = new Build();
+            Build prev = builds.putIfAbsent(
+                klass, build
+            );
+
+            if (prev != null) {
+                if (prev.owner != build.owner) {
+                    waits.put(
+                        build.owner, prev
+                    );
+                    try {
+                        // the owner is waiting for
+                        // this thread, so don't wait
+                        if (!cycle(prev)) {
+                            return prev.join();
+                        }
+                    } finally {
+                        waits.remove(
+                            build.owner
+                        );
+                    }
+                }
+                // reentrant lookup
+                build = null;
+            }
+
+            spare = null;
+            try {
+                spare = get(klass);
+                if (spare == null) {
+                    spare = build(
                         klass, embed, supplier
-                    )
-                );
+                    );
+                }
                 return spare;
+            } finally {
+                if (build != null) {
+                    builds.remove(
+                        klass, build
+                    );
+                    build.complete(spare);
+                }
+            }
+        }
+
+        /**
+         * Returns true if the owner of the specified {@link Build}
+         * is waiting, directly or through other builds, for the current thread
+         */
+        private boolean cycle(
+            @NotNull Build build
+        ) {
+            Thread self = Thread.currentThread();
+            for (int i = waits.size(); i >= 0; i--) {
+                Thread owner = build.owner;
+                if (owner == self) {
+                    return true;
+                }
+                build = waits.get(owner);
+                if (build == null) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns true if the specified {@code klass} is definitely unsupported,
+         * such as an interface, a {@link Kat} or a filtered platform type
+         */
+        static boolean unsupported(
+            @NotNull Class<?> klass
+        ) {
+            if (klass.isArray()) {
+                return false;
             }
 
+            String name = klass.getName();
+            if (name.startsWith("java.") ||
+                name.startsWith("javax.") ||
+                name.startsWith("kotlin.") ||
+                name.startsWith("kotlinx.") ||
+                name.startsWith("scala.") ||
+                name.startsWith("android.") ||
+                name.startsWith("androidx.")) {
+                return true;
+            }
+
+            Embed embed = klass
+                .getAnnotation(Embed.class);
+
+            if (embed != null) {
+                Class<?> with = embed.with();
+                if (with != Spare.class &&
+                    !with.isInterface()) {
+                    return false;
+                }
+            }
+
+            return klass.isInterface() ||
+                Kat.class.isAssignableFrom(klass);
+        }
+
+        /**
+         * Builds and caches the {@link Spare} of the specified {@code klass}
+         *
+         * @return {@link Spare} or {@code null} if failed
+         */
+        @Nullable
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Spare<?> build(
+            @NotNull Class<?> klass,
+            @Nullable Embed embed,
+            @NotNull Supplier supplier
+        ) {
+            Spare<?> spare = null;
+            Object flight = imaging() ?
+                null : Flight.begin(Flight.CREATE);
             try {
-                String sn = sc.getName();
-                if (sn.equals("java.lang.Record")) {
+                Class<?> sc = klass.getSuperclass();
+                if (sc == Enum.class) {
                     put(klass, spare =
-                        new RecordSpare<>(
-                            embed, klass, this, supplier
+                        new EnumSpare(
+                            klass, embed, supplier
                         )
                     );
-                } else {
-                    put(klass, spare =
-                        new ReflectSpare<>(
-                            embed, klass, this, supplier
-                        )
+                    return spare;
+                }
+
+                try {
+                    String sn = sc.getName();
+                    if (sn.equals("java.lang.Record")) {
+                        put(klass, spare =
+                            new RecordSpare<>(
+                                embed, klass, this, supplier
+                            )
+                        );
+                    } else {
+                        put(klass, spare =
+                            new ReflectSpare<>(
+                                embed, klass, this, supplier
+                            )
+                        );
+                    }
+                    return spare;
+                } catch (Exception e) {
+                    return null;
+                }
+            } finally {
+                if (flight != null) {
+                    Flight.commit(
+                        flight, klass, spare, 0
                     );
                 }
-                return spare;
-            } catch (Exception e) {
-                return null;
             }
         }
 
+        /**
+         * Returns true while a native image is being built, since {@link Flight}
+         * is initialized at run time and must not be touched by the image builder
+         */
+        static boolean imaging() {
+            return "buildtime".equals(
+                Config.get(
+                    "org.graalvm.nativeimage.imagecode", ""
+                )
+            );
+        }
+
         /**
          * Returns {@link Spare} of the specified {@code klass}
          *
@@ -744,5 +972,59 @@ public interface Spare<K> extends Coder<K> {
                 }
             }
         }
+
+        /**
+         * Mirrors the {@link Spare} cached for each {@link Class} in the {@link Cluster},
+         * so that the hot path resolves a class without hashing into the cluster.
+         * The cluster removes the mirrored value whenever it embeds or revokes a spare
+         *
+         * @author kraity
+         * @since 0.0.3
+         */
+        static final class Mirror extends ClassValue<Spare<?>> {
+
+            final Cluster cluster;
+
+            Mirror(
+                @NotNull Cluster cluster
+            ) {
+                this.cluster = cluster;
+            }
+
+            @Override
+            protected Spare<?> computeValue(
+                @NotNull Class<?> klass
+            ) {
+                return cluster.get(klass);
+            }
+        }
+
+        /**
+         * Marks each {@link Class} found without spare, held by the class itself
+         * rather than the cluster, so that a marked class can still be unloaded.
+         * The cluster removes the mark whenever it embeds or revokes a spare
+         *
+         * @author kraity
+         * @since 0.0.3
+         */
+        static final class Absent extends ClassValue<boolean[]> {
+            @Override
+            protected boolean[] computeValue(
+                @NotNull Class<?> klass
+            ) {
+                return new boolean[1];
+            }
+        }
+
+        /**
+         * The placeholder of a {@link Spare} in building,
+         * completed with the spare or {@code null} if failed
+         *
+         * @author kraity
+         * @since 0.0.3
+         */
+        static final class Build extends CompletableFuture<Spare<?>> {
+            final Thread owner = Thread.currentThread();
+        }
     }
 }
@@ -19,12 +19,15 @@ import plus.kat.anno.Embed;
 import plus.kat.anno.NotNull;
 import plus.kat.anno.Nullable;
 
+import plus.kat.chain.Alias;
 import plus.kat.crash.RunCrash;
 import plus.kat.spare.*;
 import plus.kat.entity.*;
 import plus.kat.utils.*;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.*;
 import java.util.concurrent.*;
 
 import static plus.kat.chain.Space.*;
@@ -467,6 +470,142 @@ public interface Supplier {
         return spare.solve(job, event);
     }
 
+    /**
+     * Prepares the {@link Spare} of each specified class in parallel ahead of its first use,
+     * then encodes and decodes a new instance {@code rounds} times with every {@link Job}
+     * to warm up the JIT, the returned map is in the given order
+     *
+     * <pre>{@code
+     *   Map<Class<?>, long[]> cost = supplier.preload(
+     *       Arrays.asList(User.class, Meta.class), 8
+     *   );
+     *   long prepare = cost.get(User.class)[0];
+     *   long warmup = cost.get(User.class)[1];
+     * }</pre>
+     *
+     * @param classes the specified classes
+     * @param rounds  the number of synthetic rounds
+     * @return the nanoseconds each spare took to prepare and then to warm up,
+     * the former is {@code -1} if it has no spare
+     * @throws NullPointerException If the specified {@code classes} or any of its elements is null
+     * @since 0.0.3
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    default Map<Class<?>, long[]> preload(
+        @NotNull Collection<Class<?>> classes,
+        int rounds
+    ) {
+        for (Class<?> klass : classes) {
+            if (klass == null) {
+                throw new NullPointerException(
+                    "Unexpectedly, the classes to preload contain null"
+                );
+            }
+        }
+
+        Map<Class<?>, long[]> cost =
+            new ConcurrentHashMap<>();
+
+        classes.parallelStream().forEach(klass -> {
+            long start = System.nanoTime();
+            Spare<Object> spare;
+            try {
+                spare = (Spare<Object>)
+                    lookup(klass);
+            } catch (Exception e) {
+                spare = null;
+            }
+
+            if (spare == null) {
+                cost.put(
+                    klass, new long[]{-1L, 0L}
+                );
+                return;
+            }
+
+            long prepared = System.nanoTime();
+
+            Object value = null;
+            if (rounds > 0 &&
+                spare instanceof Worker) {
+                try {
+                    value = ((Worker<?>) spare).apply(
+                        Alias.EMPTY
+                    );
+                } catch (Exception e) {
+                    // Nothing
+                }
+            }
+
+            if (value != null) {
+                for (int i = 0; i < rounds; i++) {
+                    try {
+                        spare.read(
+                            spare.write(value).toString()
+                        );
+                        spare.parse(
+                            spare.serial(value).toString()
+                        );
+                        spare.down(
+                            spare.mark(value).toString()
+                        );
+                    } catch (Exception e) {
+                        break;
+                    }
+                }
+            }
+
+            cost.put(
+                klass, new long[]{
+                    prepared - start,
+                    System.nanoTime() - prepared
+                }
+            );
+        });
+
+        Map<Class<?>, long[]> result = new LinkedHashMap<>();
+        for (Class<?> klass : classes) {
+            result.put(
+                klass, cost.get(klass)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Prepares the {@link Spare} of each class in the specified package and its subpackages
+     *
+     * <pre>{@code
+     *   Map<Class<?>, long[]> cost = supplier.preload(
+     *       "plus.kat.entity", 8
+     *   );
+     * }</pre>
+     *
+     * @param pkg    the specified package
+     * @param rounds the number of synthetic rounds
+     * @throws IOException          If an I/O error occurs while scanning the classpath
+     * @throws NullPointerException If the specified {@code pkg} is null
+     * @see Supplier#preload(Collection, int)
+     * @see Reflect#scan(String, ClassLoader)
+     * @since 0.0.3
+     */
+    @NotNull
+    default Map<Class<?>, long[]> preload(
+        @NotNull String pkg,
+        int rounds
+    ) throws IOException {
+        ClassLoader loader = Thread
+            .currentThread()
+            .getContextClassLoader();
+
+        return preload(
+            Reflect.scan(
+                pkg, loader != null ? loader : Supplier.class.getClassLoader()
+            ), rounds
+        );
+    }
+
     /**
      * Register the {@link Spare} of {@link Class} with {@link Embed}
      *
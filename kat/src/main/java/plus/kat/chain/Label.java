@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.chain;
+
+import plus.kat.anno.NotNull;
+import plus.kat.anno.Nullable;
+
+import plus.kat.*;
+
+/**
+ * The name of a property with its pre-encoded bytes of each {@link Job},
+ * which are copied into the flow at once instead of escaping the name char by char
+ *
+ * <pre>{@code
+ *   Label label = new Label("name");
+ *   byte[] kat = label.leading(Job.KAT); // :name
+ *   byte[] json = label.leading(Job.JSON); // "name":
+ *   byte[] doc = label.leading(Job.DOC); // <name>
+ *   byte[] end = label.trailing(); // </name>
+ * }</pre>
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+public final class Label implements CharSequence {
+
+    private final String name;
+    private final byte[][] bytes;
+    private final byte[] trailing;
+
+    /**
+     * @param name the specified name
+     * @throws NullPointerException If the specified {@code name} is null
+     */
+    public Label(
+        @NotNull String name
+    ) {
+        this.name = name;
+        int l = name.length();
+        if (l == 0 || !plain(name)) {
+            bytes = null;
+            trailing = null;
+            return;
+        }
+
+        byte[] kat = new byte[l + 1];
+        byte[] json = new byte[l + 3];
+        byte[] doc = new byte[l + 2];
+        byte[] end = new byte[l + 3];
+
+        kat[0] = ':';
+        json[0] = '"';
+        json[l + 1] = '"';
+        json[l + 2] = ':';
+        doc[0] = '<';
+        doc[l + 1] = '>';
+        end[0] = '<';
+        end[1] = '/';
+        end[l + 2] = '>';
+
+        for (int i = 0; i < l; i++) {
+            byte b = (byte) name.charAt(i);
+            kat[i + 1] = b;
+            json[i + 1] = b;
+            doc[i + 1] = b;
+            end[i + 2] = b;
+        }
+
+        bytes = new byte[Job.values().length][];
+        bytes[Job.KAT.ordinal()] = kat;
+        bytes[Job.JSON.ordinal()] = json;
+        bytes[Job.DOC.ordinal()] = doc;
+        trailing = end;
+    }
+
+    /**
+     * Returns the leading bytes of the specified {@link Job},
+     * or {@code null} if the name has to be escaped
+     *
+     * @param job the specified job
+     */
+    @Nullable
+    public byte[] leading(
+        @NotNull Job job
+    ) {
+        byte[][] it = bytes;
+        return it == null ? null : it[job.ordinal()];
+    }
+
+    /**
+     * Returns the closing tag of {@link Job#DOC},
+     * or {@code null} if the name has to be escaped
+     */
+    @Nullable
+    public byte[] trailing() {
+        return trailing;
+    }
+
+    /**
+     * Returns true if no char of the specified name
+     * needs to be escaped by the flow of any {@link Job}
+     */
+    static boolean plain(
+        @NotNull String name
+    ) {
+        for (int i = 0, l = name.length(); i < l; i++) {
+            char c = name.charAt(i);
+            if (c <= 0x20 || c >= 0x7F) {
+                return false;
+            }
+            switch (c) {
+                case '^':
+                case '#':
+                case ':':
+                case '(':
+                case ')':
+                case '{':
+                case '}':
+                case '"':
+                case '\\':
+                case '<':
+                case '>':
+                case '&': {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return name.length();
+    }
+
+    @Override
+    public char charAt(
+        int index
+    ) {
+        return name.charAt(index);
+    }
+
+    @NotNull
+    @Override
+    public CharSequence subSequence(
+        int start, int end
+    ) {
+        return name.subSequence(start, end);
+    }
+
+    @Override
+    public boolean equals(
+        @Nullable Object o
+    ) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof Label) {
+            return name.equals(
+                ((Label) o).name
+            );
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return name;
+    }
+}
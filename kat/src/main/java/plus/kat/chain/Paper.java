@@ -22,6 +22,7 @@ import plus.kat.*;
 import plus.kat.kernel.*;
 import plus.kat.stream.*;
 import plus.kat.utils.Config;
+import plus.kat.utils.Meter;
 
 import java.util.concurrent.atomic.*;
 
@@ -37,6 +38,25 @@ public abstract class Paper extends Chain implements Flow {
     protected int depth;
     protected long flags;
 
+    /**
+     * The bytes escaped by {@link #record(byte)}
+     */
+    private static final boolean[]
+        RECORDS = table('\r', '\n', '\t', '"', '\\');
+
+    /**
+     * The two digits of each number from 00 to 99
+     */
+    private static final byte[]
+        DIGITS = new byte[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGITS[i << 1] = (byte) ('0' + i / 10);
+            DIGITS[i << 1 | 1] = (byte) ('0' + i % 10);
+        }
+    }
+
     /**
      * default
      */
@@ -64,6 +84,20 @@ public abstract class Paper extends Chain implements Flow {
         super(bucket == null ? $Bucket.INS : bucket);
     }
 
+    /**
+     * @param flags  the specified {@code flags}
+     * @param bucket the specified {@link Bucket} to be used
+     * @since 0.0.3
+     */
+    public Paper(
+        long flags,
+        @Nullable Bucket bucket
+    ) {
+        super(bucket == null ? $Bucket.INS : bucket);
+        this.flags = flags;
+        if ((flags & Flow.PRETTY) != 0) ++depth;
+    }
+
     /**
      * Check if this {@link Paper} use the {@code flag}
      *
@@ -149,26 +183,18 @@ public abstract class Paper extends Chain implements Flow {
     public void addInt(
         int num
     ) {
-        if (num < 0) {
+        if (num >= 0) {
+            num = -num;
+        } else {
             grow(count + 1);
             value[count++] = '-';
-        } else {
-            num = -num;
         }
 
-        if (num > -10) {
-            grow(count + 1);
-            hash = 0;
-            value[count++] = lower(-num);
-        } else {
-            int mark = count;
-            do {
-                grow(count + 1);
-                value[count++] = lower(-(num % 10));
-                num /= 10;
-            } while (num < 0);
-            swop(mark, count - 1);
-        }
+        int i = count + size(num);
+        grow(i);
+        hash = 0;
+        count = i;
+        digits(value, i, num);
     }
 
     /**
@@ -180,14 +206,9 @@ public abstract class Paper extends Chain implements Flow {
         int num, int shift
     ) {
         if (shift > 0 && shift < 6) {
-            int mark = count;
-            int mask = (1 << shift) - 1;
-            do {
-                grow(count + 1);
-                value[count++] = lower(num & mask);
-                num >>>= shift;
-            } while (num != 0);
-            swop(mark, count - 1);
+            addInt(
+                num, shift, (32 - Integer.numberOfLeadingZeros(num | 1) + shift - 1) / shift
+            );
         }
     }
 
@@ -201,15 +222,17 @@ public abstract class Paper extends Chain implements Flow {
     public void addInt(
         int num, int shift, int length
     ) {
-        if (shift > 0 && shift < 6) {
-            int mark = count;
+        if (shift > 0 && shift < 6 && length > 0) {
+            int i = count + length;
+            grow(i);
+            hash = 0;
+            count = i;
+            byte[] it = value;
             int mask = (1 << shift) - 1;
             while (--length != -1) {
-                grow(count + 1);
-                value[count++] = lower((num & mask));
+                it[--i] = lower(num & mask);
                 num >>>= shift;
             }
-            swop(mark, count - 1);
         }
     }
 
@@ -220,26 +243,27 @@ public abstract class Paper extends Chain implements Flow {
     public void addLong(
         long num
     ) {
-        if (num < 0) {
+        if (num >= 0L) {
+            num = -num;
+        } else {
             grow(count + 1);
             value[count++] = '-';
-        } else {
-            num = -num;
         }
 
-        if (num > -10L) {
-            grow(count + 1);
-            hash = 0;
-            value[count++] = lower((int) -num);
-        } else {
-            int mark = count;
-            do {
-                grow(count + 1);
-                value[count++] = lower((int) -(num % 10L));
-                num /= 10L;
-            } while (num < 0L);
-            swop(mark, count - 1);
+        int i = count + size(num);
+        grow(i);
+        hash = 0;
+        count = i;
+
+        byte[] it = value;
+        while (num < Integer.MIN_VALUE) {
+            long q = num / 100L;
+            int r = (int) (q * 100L - num) << 1;
+            num = q;
+            it[--i] = DIGITS[r + 1];
+            it[--i] = DIGITS[r];
         }
+        digits(it, i, (int) num);
     }
 
     /**
@@ -251,14 +275,9 @@ public abstract class Paper extends Chain implements Flow {
         long num, int shift
     ) {
         if (shift > 0 && shift < 6) {
-            int mark = count;
-            long mask = (1L << shift) - 1L;
-            do {
-                grow(count + 1);
-                value[count++] = lower((int) (num & mask));
-                num >>>= shift;
-            } while (num != 0L);
-            swop(mark, count - 1);
+            addLong(
+                num, shift, (64 - Long.numberOfLeadingZeros(num | 1L) + shift - 1) / shift
+            );
         }
     }
 
@@ -272,18 +291,45 @@ public abstract class Paper extends Chain implements Flow {
     public void addLong(
         long num, int shift, int length
     ) {
-        if (shift > 0 && shift < 6) {
-            int mark = count;
+        if (shift > 0 && shift < 6 && length > 0) {
+            int i = count + length;
+            grow(i);
+            hash = 0;
+            count = i;
+            byte[] it = value;
             long mask = (1L << shift) - 1L;
             while (--length != -1) {
-                grow(count + 1);
-                value[count++] = lower((int) (num & mask));
+                it[--i] = lower((int) (num & mask));
                 num >>>= shift;
             }
-            swop(mark, count - 1);
         }
     }
 
+    /**
+     * @param most  the most significant 64 bits of the uuid
+     * @param least the least significant 64 bits of the uuid
+     * @since 0.0.3
+     */
+    @Override
+    public void addUUID(
+        long most, long least
+    ) {
+        int i = count;
+        grow(i + 36);
+        hash = 0;
+        count = i + 36;
+        byte[] it = value;
+        lower(it, i, most >>> 32, 8);
+        it[i + 8] = '-';
+        lower(it, i + 9, most >>> 16, 4);
+        it[i + 13] = '-';
+        lower(it, i + 14, most, 4);
+        it[i + 18] = '-';
+        lower(it, i + 19, least >>> 48, 4);
+        it[i + 23] = '-';
+        lower(it, i + 24, least, 12);
+    }
+
     /**
      * @param num the specified double value
      */
@@ -420,6 +466,28 @@ public abstract class Paper extends Chain implements Flow {
         chain(data, i, l);
     }
 
+    /**
+     * Returns a new empty {@link Paper} of the same kind with the same flags and depth,
+     * so that a slice can be written into it on another thread and then appended
+     * back to this with {@link #join(Paper)}. The fork does not share any bytes with this
+     *
+     * @since 0.0.3
+     */
+    @NotNull
+    public abstract Paper fork();
+
+    /**
+     * Appends the bytes of the specified {@link Paper}
+     *
+     * @param paper the specified paper
+     * @since 0.0.3
+     */
+    public void join(
+        @NotNull Paper paper
+    ) {
+        chain(paper);
+    }
+
     /**
      * @param data the specified char array
      */
@@ -568,6 +636,12 @@ public abstract class Paper extends Chain implements Flow {
         grow(count + l);
 
         while (i < k) {
+            // copy the plain run
+            i = plain(data, i, k);
+            if (i == k) {
+                break;
+            }
+
             // get char
             char c = data.charAt(i++);
 
@@ -782,6 +856,12 @@ public abstract class Paper extends Chain implements Flow {
         grow(count + l);
 
         while (i < k) {
+            // copy the plain run
+            i = plain(data, i, k);
+            if (i == k) {
+                break;
+            }
+
             // get char
             char c = data.charAt(i++);
 
@@ -939,6 +1019,144 @@ public abstract class Paper extends Chain implements Flow {
         }
     }
 
+    /**
+     * Copies the run of chars from the specified index that are ASCII and not recorded
+     * by {@link #record(byte)} at once, returns the index of the first char that is not
+     *
+     * @param data the specified data
+     * @param i    the specified start index
+     * @param k    the specified end index, exclusive
+     * @since 0.0.3
+     */
+    @SuppressWarnings("deprecation")
+    protected int plain(
+        @NotNull CharSequence data, int i, int k
+    ) {
+        int j = i;
+        boolean[] table = records();
+
+        while (j < k) {
+            char c = data.charAt(j);
+            if (c >= 0x80 || table[c]) {
+                break;
+            }
+            j++;
+        }
+
+        int l = j - i;
+        if (l != 0) {
+            grow(count + l);
+            if (data instanceof String) {
+                ((String) data).getBytes(
+                    i, j, value, count
+                );
+            } else {
+                byte[] it = value;
+                for (int n = count; i < j; ) {
+                    it[n++] = (byte) data.charAt(i++);
+                }
+            }
+            hash = 0;
+            count += l;
+        }
+        return j;
+    }
+
+    /**
+     * Returns the table of the ASCII bytes that {@link #record(byte)} escapes,
+     * a subclass that overrides {@link #record(byte)} must also override this
+     *
+     * @since 0.0.3
+     */
+    @NotNull
+    protected boolean[] records() {
+        return RECORDS;
+    }
+
+    /**
+     * Returns the number of decimal digits of the specified non-positive int
+     *
+     * @param num the specified int value, negated
+     * @since 0.0.3
+     */
+    protected static int size(
+        int num
+    ) {
+        int p = -10;
+        for (int i = 1; i < 10; i++) {
+            if (num > p) {
+                return i;
+            }
+            p *= 10;
+        }
+        return 10;
+    }
+
+    /**
+     * Returns the number of decimal digits of the specified non-positive long
+     *
+     * @param num the specified long value, negated
+     * @since 0.0.3
+     */
+    protected static int size(
+        long num
+    ) {
+        long p = -10L;
+        for (int i = 1; i < 19; i++) {
+            if (num > p) {
+                return i;
+            }
+            p *= 10L;
+        }
+        return 19;
+    }
+
+    /**
+     * Writes the decimal digits of the specified non-positive
+     * int two at a time, backwards from the ending index
+     *
+     * @param it  the specified bytes
+     * @param i   the ending index, exclusive
+     * @param num the specified int value, negated
+     * @since 0.0.3
+     */
+    protected static void digits(
+        @NotNull byte[] it, int i, int num
+    ) {
+        while (num <= -100) {
+            int q = num / 100;
+            int r = (q * 100 - num) << 1;
+            num = q;
+            it[--i] = DIGITS[r + 1];
+            it[--i] = DIGITS[r];
+        }
+
+        if (num > -10) {
+            it[--i] = (byte) ('0' - num);
+        } else {
+            int r = -num << 1;
+            it[--i] = DIGITS[r + 1];
+            it[--i] = DIGITS[r];
+        }
+    }
+
+    /**
+     * Returns a table of ASCII bytes with the specified bytes set
+     *
+     * @param data the specified bytes
+     * @since 0.0.3
+     */
+    @NotNull
+    protected static boolean[] table(
+        @NotNull char... data
+    ) {
+        boolean[] table = new boolean[0x80];
+        for (char c : data) {
+            table[c] = true;
+        }
+        return table;
+    }
+
     /**
      * @since 0.0.2
      */
@@ -1021,6 +1239,15 @@ public abstract class Paper extends Chain implements Flow {
                 if (data == null ||
                     data.length < min) {
                     data = new byte[(i + 1) * SCALE - 1];
+                    if (Meter.ENABLED) {
+                        Meter.INS.count(
+                            Meter.Probe.PAPER_MISS
+                        );
+                    }
+                } else if (Meter.ENABLED) {
+                    Meter.INS.count(
+                        Meter.Probe.PAPER_HIT
+                    );
                 }
             }
 
@@ -35,6 +35,19 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  * @since 0.0.1
  */
 public class Value extends Chain {
+    /**
+     * The kinds of number recognized by {@link #scan(byte)}
+     *
+     * @since 0.0.3
+     */
+    public static final int
+        INTEGER = 1, DECIMAL = 2, OVERFLOW = 3;
+
+    private int mark = -1;
+    private int kind;
+    private long number;
+    private boolean negative;
+
     /**
      * default
      */
@@ -126,10 +139,107 @@ public class Value extends Chain {
     ) {
         if (i < value.length) {
             hash = 0;
+            mark = -1;
             value[i] = b;
         }
     }
 
+    /**
+     * Appends the specified byte, which the solvers use for numeric
+     * tokens, and recognizes the number spelled by the scanned bytes,
+     * accumulating the integer value on the way
+     *
+     * @param b the specified byte value
+     * @see #getKind()
+     * @since 0.0.3
+     */
+    public void scan(
+        byte b
+    ) {
+        int n = count;
+        if (n == 0) {
+            mark = 0;
+            kind = 0;
+            number = 0L;
+            negative = false;
+        }
+
+        if (mark == n) {
+            mark = n + 1;
+            int d = b - '0';
+            if (d >= 0 && d <= 9) {
+                switch (kind) {
+                    case 0: {
+                        kind = INTEGER;
+                        number = -d;
+                        break;
+                    }
+                    case INTEGER: {
+                        // leading zero is octal, see Convert
+                        if (n == 1 && !negative && number == 0L) {
+                            mark = -1;
+                            break;
+                        }
+                        long m = number;
+                        if (m < -922337203685477580L) {
+                            kind = OVERFLOW;
+                            break;
+                        }
+                        m *= 10L;
+                        if (m < (negative ? Long.MIN_VALUE : -Long.MAX_VALUE) + d) {
+                            kind = OVERFLOW;
+                        } else {
+                            number = m - d;
+                        }
+                    }
+                }
+            } else {
+                switch (b) {
+                    case '-': {
+                        if (n == 0) {
+                            negative = true;
+                        } else if (kind != DECIMAL) {
+                            mark = -1;
+                        }
+                        break;
+                    }
+                    case '+': {
+                        if (kind != DECIMAL) {
+                            mark = -1;
+                        }
+                        break;
+                    }
+                    case '.':
+                    case 'e':
+                    case 'E': {
+                        if (kind != 0) {
+                            kind = DECIMAL;
+                        } else {
+                            mark = -1;
+                        }
+                        break;
+                    }
+                    default: {
+                        mark = -1;
+                    }
+                }
+            }
+        }
+
+        chain(b);
+    }
+
+    /**
+     * Returns the kind of number that the bytes appended by {@link #scan(byte)} spell,
+     * that is {@link #INTEGER}, {@link #DECIMAL} or {@link #OVERFLOW} for an integer
+     * beyond {@code long}, or zero if not a number or if the value has been changed otherwise
+     *
+     * @since 0.0.3
+     */
+    public int getKind() {
+        return mark == count ? kind : 0;
+    }
+
     /**
      * @param b the specified byte value
      */
@@ -208,10 +318,23 @@ public class Value extends Chain {
         if (i >= 0 &&
             i <= value.length) {
             hash = 0;
+            mark = -1;
             count = i;
         }
     }
 
+    /**
+     * clean this {@link Value}
+     *
+     * @since 0.0.3
+     */
+    @Override
+    public void clean() {
+        hash = 0;
+        mark = -1;
+        count = 0;
+    }
+
     /**
      * Parses this {@code UTF8} {@link Value} as a {@code char}
      */
@@ -243,6 +366,10 @@ public class Value extends Chain {
      * Parses this {@link Value} as a signed decimal {@code int}
      */
     public int toInt() {
+        if (mark == count && kind == INTEGER) {
+            long n = negative ? number : -number;
+            return (int) n == n ? (int) n : 0;
+        }
         return Convert.toInt(
             value, count, 10, 0
         );
@@ -254,6 +381,10 @@ public class Value extends Chain {
     public int toInt(
         int def
     ) {
+        if (mark == count && kind == INTEGER) {
+            long n = negative ? number : -number;
+            return (int) n == n ? (int) n : def;
+        }
         return Convert.toInt(
             value, count, 10, def
         );
@@ -279,6 +410,9 @@ public class Value extends Chain {
      * Parses this {@link Value} as a signed decimal {@code long}
      */
     public long toLong() {
+        if (mark == count && kind == INTEGER) {
+            return negative ? number : -number;
+        }
         return Convert.toLong(
             value, count, 10L, 0L
         );
@@ -290,6 +424,9 @@ public class Value extends Chain {
     public long toLong(
         long def
     ) {
+        if (mark == count && kind == INTEGER) {
+            return negative ? number : -number;
+        }
         return Convert.toLong(
             value, count, 10L, def
         );
@@ -335,6 +472,14 @@ public class Value extends Chain {
      * Parses this {@link Value} as a {@code double}
      */
     public double toDouble() {
+        if (mark == count && kind == INTEGER) {
+            if (!negative) {
+                return -number;
+            }
+            if (number != 0L) {
+                return number;
+            }
+        }
         return Convert.toDouble(
             value, count, 0D
         );
@@ -346,6 +491,14 @@ public class Value extends Chain {
     public double toDouble(
         double def
     ) {
+        if (mark == count && kind == INTEGER) {
+            if (!negative) {
+                return -number;
+            }
+            if (number != 0L) {
+                return number;
+            }
+        }
         return Convert.toDouble(
             value, count, def
         );
@@ -539,6 +692,15 @@ public class Value extends Chain {
                 if (data == null ||
                     data.length < min) {
                     data = new byte[(i + 1) * SCALE - 1];
+                    if (Meter.ENABLED) {
+                        Meter.INS.count(
+                            Meter.Probe.VALUE_MISS
+                        );
+                    }
+                } else if (Meter.ENABLED) {
+                    Meter.INS.count(
+                        Meter.Probe.VALUE_HIT
+                    );
                 }
             } else {
                 if (i < LIMIT) {
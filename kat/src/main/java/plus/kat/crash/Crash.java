@@ -21,12 +21,21 @@ import plus.kat.anno.Nullable;
 import plus.kat.Chan;
 import plus.kat.Kat;
 import plus.kat.chain.Space;
+import plus.kat.utils.Config;
 
 /**
  * @author kraity
  * @since 0.0.1
  */
 public class Crash extends Exception implements Kat {
+    /**
+     * Whether crashes skip filling in the stack trace,
+     * which is enabled by {@code kat.crash.stackless}
+     */
+    static final boolean STACKLESS = Config.get(
+        "kat.crash.stackless", false
+    );
+
     /**
      * code
      */
@@ -140,4 +149,17 @@ public class Crash extends Exception implements Kat {
     public String toString() {
         return new Chan(this).toString();
     }
+
+    /**
+     * Skips filling in the stack trace if {@code kat.crash.stackless} is enabled
+     *
+     * @since 0.0.3
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (STACKLESS) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
 }
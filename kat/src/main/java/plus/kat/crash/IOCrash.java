@@ -50,4 +50,17 @@ public class IOCrash extends IOException {
     public IOCrash(String m, Throwable e) {
         super(m, e);
     }
+
+    /**
+     * Skips filling in the stack trace if {@code kat.crash.stackless} is enabled
+     *
+     * @since 0.0.3
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (Crash.STACKLESS) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
 }
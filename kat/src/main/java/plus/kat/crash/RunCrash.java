@@ -66,4 +66,17 @@ public class RunCrash extends RuntimeException {
     public RunCrash(String m, Throwable e, boolean a, boolean b) {
         super(m, e, a, b);
     }
+
+    /**
+     * Skips filling in the stack trace if {@code kat.crash.stackless} is enabled
+     *
+     * @since 0.0.3
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (Crash.STACKLESS) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
 }
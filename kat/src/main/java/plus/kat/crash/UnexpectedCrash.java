@@ -20,6 +20,10 @@ package plus.kat.crash;
  * @since 0.0.1
  */
 public class UnexpectedCrash extends IOCrash {
+
+    private Object[] args;
+    private String message;
+
     /**
      * default
      */
@@ -48,4 +52,45 @@ public class UnexpectedCrash extends IOCrash {
     public UnexpectedCrash(String m, Throwable e) {
         super(m, e);
     }
+
+    /**
+     * Formats the detail message lazily and only once, so that a crash
+     * which is never printed does not pay for the message.
+     * The arguments are kept as they are until then, so callers must pass
+     * immutable ones, such as a {@link String} snapshot of a pooled chain
+     *
+     * <pre>{@code
+     *  throw new UnexpectedCrash(
+     *      "Unexpectedly, byte '%s' in alias", b
+     *  );
+     * }</pre>
+     *
+     * @param m    the format of the detail message
+     * @param args the arguments referenced by the format
+     * @see String#format(String, Object...)
+     * @since 0.0.3
+     */
+    public UnexpectedCrash(String m, Object... args) {
+        super(m);
+        this.args = args;
+    }
+
+    /**
+     * Returns the detail message of this
+     */
+    @Override
+    public String getMessage() {
+        String m = message;
+        if (m != null) {
+            return m;
+        }
+
+        m = super.getMessage();
+        Object[] a = args;
+        if (m != null && a != null) {
+            m = String.format(m, a);
+            args = null;
+        }
+        return message = m;
+    }
 }
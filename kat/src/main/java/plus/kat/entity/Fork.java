@@ -0,0 +1,328 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.entity;
+
+import plus.kat.anno.NotNull;
+import plus.kat.anno.Nullable;
+
+import plus.kat.*;
+import plus.kat.crash.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Decodes the elements of a large top-level {@link Json} array concurrently,
+ * the element boundaries are located by a structural pre-scan first
+ *
+ * <pre>{@code
+ *   byte[] data = ...; // [{...},{...},...]
+ *   List<User> users = Fork.parse(
+ *       Spare.lookup(User.class), data
+ *   );
+ * }</pre>
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+public class Fork<T> extends RecursiveAction {
+
+    protected final int from, to, grain;
+
+    protected final byte[] data;
+    protected final int[] bounds;
+    protected final Object[] result;
+
+    protected final long flags;
+    protected final Spare<T> spare;
+    protected final Supplier supplier;
+
+    protected Fork(
+        @NotNull Spare<T> spare,
+        @NotNull Supplier supplier,
+        long flags,
+        @NotNull byte[] data,
+        @NotNull int[] bounds,
+        @NotNull Object[] result,
+        int from, int to, int grain
+    ) {
+        this.spare = spare;
+        this.supplier = supplier;
+        this.flags = flags;
+        this.data = data;
+        this.bounds = bounds;
+        this.result = result;
+        this.from = from;
+        this.to = to;
+        this.grain = grain;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from > grain) {
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new Fork<>(
+                    spare, supplier, flags, data, bounds, result, from, mid, grain
+                ),
+                new Fork<>(
+                    spare, supplier, flags, data, bounds, result, mid, to, grain
+                )
+            );
+            return;
+        }
+
+        // own parser, the blocking pool
+        // would park the fork-join workers
+        Parser parser = new Parser();
+
+        try {
+            for (int i = from; i < to; i++) {
+                int index = bounds[i << 1];
+                Event<T> event = new Event<>(
+                    data, index, bounds[(i << 1) + 1] - index
+                );
+
+                event.with(flags);
+                event.with(spare);
+                event.with(supplier);
+
+                result[i] = parser.read(
+                    Job.JSON, event
+                );
+                parser.clear();
+            }
+        } finally {
+            // release buckets
+            parser.close();
+        }
+    }
+
+    /**
+     * Parses the top-level {@link Json} array on the common {@link ForkJoinPool}
+     *
+     * @param spare the specified spare of elements
+     * @param data  the specified array bytes
+     * @throws IOCrash              If the specified {@code data} is not a well-formed array
+     * @throws NullPointerException If the specified {@code spare} or {@code data} is null
+     */
+    @NotNull
+    public static <T> List<T> parse(
+        @NotNull Spare<T> spare,
+        @NotNull byte[] data
+    ) throws IOCrash {
+        return parse(
+            spare, Supplier.ins(), 0L, data, ForkJoinPool.commonPool()
+        );
+    }
+
+    /**
+     * Parses the top-level {@link Json} array on the specified {@link ForkJoinPool},
+     * elements are decoded concurrently and returned in their original order
+     *
+     * @param spare    the specified spare of elements
+     * @param supplier the specified supplier
+     * @param flags    the specified read flags
+     * @param data     the specified array bytes
+     * @param pool     the specified pool
+     * @throws IOCrash              If the specified {@code data} is not a well-formed array
+     * @throws NullPointerException If the specified {@code spare}, {@code data} or {@code pool} is null
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> parse(
+        @NotNull Spare<T> spare,
+        @NotNull Supplier supplier,
+        long flags,
+        @NotNull byte[] data,
+        @NotNull ForkJoinPool pool
+    ) throws IOCrash {
+        int[] bounds = scan(
+            data, 0, data.length
+        );
+
+        int size = bounds.length >> 1;
+        if (size == 0) {
+            return new ArrayList<>();
+        }
+
+        Object[] result = new Object[size];
+        int grain = size / (pool.getParallelism() << 2);
+
+        pool.invoke(
+            new Fork<>(
+                spare, supplier, flags, data, bounds, result, 0, size, grain < 1 ? 1 : grain
+            )
+        );
+
+        return (List<T>) new ArrayList<>(
+            Arrays.asList(result)
+        );
+    }
+
+    /**
+     * Locates the elements of the top-level {@link Json} array,
+     * returns the pairs of start (inclusive) and end (exclusive) index of each element
+     *
+     * @param data   the specified array bytes
+     * @param index  the start index
+     * @param length the length of the array
+     * @throws IOCrash If the specified {@code data} is not a well-formed array
+     */
+    @NotNull
+    public static int[] scan(
+        @NotNull byte[] data,
+        int index,
+        int length
+    ) throws IOCrash {
+        int i = index, e = index + length;
+        if (i < 0 || e > data.length || i > e) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        while (i < e && data[i] <= 0x20) i++;
+        if (i == e || data[i++] != '[') {
+            throw new UnexpectedCrash(
+                "Unexpectedly, the data is not an array"
+            );
+        }
+
+        int count = 0;
+        int[] bounds = new int[32];
+
+        int depth = 0, start = -1, end = -1;
+        byte[] stack = new byte[16];
+        boolean string = false;
+
+        for (; i < e; i++) {
+            byte b = data[i];
+            if (string) {
+                if (b == '\\') {
+                    i++;
+                } else if (b == '"') {
+                    string = false;
+                    end = i + 1;
+                }
+                continue;
+            }
+
+            switch (b) {
+                case '"': {
+                    string = true;
+                    if (start == -1) {
+                        start = i;
+                    }
+                    continue;
+                }
+                case '{':
+                case '[': {
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(
+                            stack, depth << 1
+                        );
+                    }
+                    stack[depth++] = b;
+                    if (start == -1) {
+                        start = i;
+                    }
+                    continue;
+                }
+                case '}':
+                case ']': {
+                    if (depth != 0) {
+                        if (stack[--depth] != (b == '}' ? '{' : '[')) {
+                            break;
+                        }
+                        end = i + 1;
+                        continue;
+                    }
+                    if (b == '}') {
+                        break;
+                    }
+                }
+                case ',': {
+                    if (depth != 0) {
+                        continue;
+                    }
+                    if (start == -1) {
+                        if (b == ']' && count == 0) {
+                            return closed(
+                                data, i + 1, e, new int[0]
+                            );
+                        }
+                        break;
+                    }
+                    if (count == bounds.length) {
+                        bounds = Arrays.copyOf(
+                            bounds, count << 1
+                        );
+                    }
+                    bounds[count++] = start;
+                    bounds[count++] = end;
+                    start = -1;
+                    if (b == ']') {
+                        return closed(
+                            data, i + 1, e, count == bounds.length ?
+                                bounds : Arrays.copyOf(bounds, count)
+                        );
+                    }
+                    continue;
+                }
+                default: {
+                    if (b > 0x20) {
+                        if (start == -1) {
+                            start = i;
+                        }
+                        end = i + 1;
+                    }
+                    continue;
+                }
+            }
+
+            throw new UnexpectedCrash(
+                "Unexpectedly, byte '%s' at %s is not allowed here", (char) b, i
+            );
+        }
+
+        throw new UnexpectedCrash(
+            "Unexpectedly, the array is not closed"
+        );
+    }
+
+    /**
+     * Returns the specified bounds if only whitespace follows the closed array
+     *
+     * @throws IOCrash If anything else follows the array
+     */
+    private static int[] closed(
+        @NotNull byte[] data,
+        int i, int e,
+        @NotNull int[] bounds
+    ) throws IOCrash {
+        for (; i < e; i++) {
+            byte b = data[i];
+            if (b > 0x20) {
+                throw new UnexpectedCrash(
+                    "Unexpectedly, byte '%s' at %s after the array", (char) b, i
+                );
+            }
+        }
+        return bounds;
+    }
+}
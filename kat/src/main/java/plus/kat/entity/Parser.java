@@ -39,7 +39,7 @@ public class Parser implements Pipe {
      * snapshot etc.
      */
     protected Object bundle;
-    protected int depth, range;
+    protected int depth, range, peak;
 
     protected Event<?> target;
     protected Builder<?> active;
@@ -84,7 +84,7 @@ public class Parser implements Pipe {
         @NotNull Event<?> event
     ) {
         return read(
-            radar, event
+            Job.KAT, event
         );
     }
 
@@ -106,6 +106,7 @@ public class Parser implements Pipe {
             return null;
         }
 
+        this.peak = 0;
         this.target = event;
         this.range = event.getRange();
 
@@ -141,21 +142,19 @@ public class Parser implements Pipe {
         @NotNull Job job,
         @NotNull Event<?> event
     ) {
+        Solver coder;
         switch (job) {
             case KAT: {
-                return read(
-                    radar, event
-                );
+                coder = radar;
+                break;
             }
             case DOC: {
-                return read(
-                    docx != null ? docx : (docx = new Docx(radar)), event
-                );
+                coder = docx != null ? docx : (docx = new Docx(radar));
+                break;
             }
             case JSON: {
-                return read(
-                    mage != null ? mage : (mage = new Mage(radar)), event
-                );
+                coder = mage != null ? mage : (mage = new Mage(radar));
+                break;
             }
             default: {
                 throw new RunCrash(
@@ -163,6 +162,17 @@ public class Parser implements Pipe {
                 );
             }
         }
+
+        Object flight = Flight.begin(Flight.DECODE);
+        try {
+            return read(
+                coder, event
+            );
+        } finally {
+            Flight.commit(
+                flight, job, event, peak
+            );
+        }
     }
 
     /**
@@ -184,6 +194,7 @@ public class Parser implements Pipe {
         Parser parser = cluster.borrow();
 
         // solve
+        long start = Meter.ENABLED ? System.nanoTime() : 0L;
         Object data = parser.read(
             job, event
         );
@@ -191,6 +202,12 @@ public class Parser implements Pipe {
         // returns parser
         cluster.retreat(parser);
 
+        if (Meter.ENABLED) {
+            Meter.INS.decoded(
+                job, System.nanoTime() - start
+            );
+        }
+
         // convert result
         return data == null ? null : (T) data;
     }
@@ -232,7 +249,9 @@ public class Parser implements Pipe {
             child.onAttach(
                 name, target, parent
             );
-            ++depth;
+            if (++depth > peak) {
+                peak = depth;
+            }
             active = child;
             return true;
         } catch (Crash e) {
@@ -381,6 +400,12 @@ public class Parser implements Pipe {
 
         @NotNull
         public Parser borrow() {
+            if (Meter.ENABLED) {
+                Meter.INS.count(
+                    Meter.Probe.PARSER_BORROW
+                );
+            }
+
             synchronized (this) {
                 while (true) {
                     if (count != 0) {
@@ -402,6 +427,11 @@ public class Parser implements Pipe {
                             grow++;
                             break;
                         } else try {
+                            if (Meter.ENABLED) {
+                                Meter.INS.count(
+                                    Meter.Probe.PARSER_WAIT
+                                );
+                            }
                             wait(1000);
                         } catch (Exception e) {
                             grow++;
@@ -414,6 +444,11 @@ public class Parser implements Pipe {
                 }
             }
 
+            if (Meter.ENABLED) {
+                Meter.INS.count(
+                    Meter.Probe.PARSER_CREATE
+                );
+            }
             return new Parser();
         }
 
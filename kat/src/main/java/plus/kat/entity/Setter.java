@@ -18,6 +18,10 @@ package plus.kat.entity;
 import plus.kat.anno.NotNull;
 import plus.kat.anno.Nullable;
 
+import plus.kat.*;
+import plus.kat.chain.*;
+import plus.kat.crash.*;
+
 /**
  * @author kraity
  * @since 0.0.1
@@ -51,6 +55,26 @@ public interface Setter<K, V> extends Target {
         }
     }
 
+    /**
+     * Reads the primitive value of the specified {@link Value} and sets it without boxing
+     *
+     * @param it       the entity
+     * @param flag     the specified flag
+     * @param value    the specified value
+     * @param supplier the specified supplier
+     * @return {@code false} if this setter cannot set the value without boxing
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    default boolean onAccept(
+        @NotNull K it,
+        @NotNull Flag flag,
+        @NotNull Value value,
+        @NotNull Supplier supplier
+    ) throws IOCrash {
+        return false;
+    }
+
     /**
      * Returns the {@link Class} of {@link K}
      */
@@ -138,9 +138,13 @@ public interface Worker<K> extends Spare<K>, Maker<K> {
             );
 
             if (setter != null) {
-                onAccept(
-                    space, value, setter
-                );
+                if (!setter.onAccept(
+                    entity, flag, value, supplier
+                )) {
+                    onAccept(
+                        space, value, setter
+                    );
+                }
             }
         }
 
@@ -1625,13 +1625,21 @@ public abstract class Chain implements CharSequence, Comparable<CharSequence> {
      */
     @NotNull
     @Override
+    @SuppressWarnings("deprecation")
     public String toString() {
         if (count == 0) {
             return "";
         }
 
+        byte[] it = value;
+        if (ascii(it, 0, count)) {
+            return new String(
+                it, 0, 0, count
+            );
+        }
+
         return new String(
-            value, 0, count, UTF_8
+            it, 0, count, UTF_8
         );
     }
 
@@ -1643,6 +1651,7 @@ public abstract class Chain implements CharSequence, Comparable<CharSequence> {
      * @throws IndexOutOfBoundsException if the beginIndex is negative
      */
     @NotNull
+    @SuppressWarnings("deprecation")
     public String toString(
         int b, int e
     ) {
@@ -1651,11 +1660,44 @@ public abstract class Chain implements CharSequence, Comparable<CharSequence> {
             return "";
         }
 
+        byte[] it = value;
+        if (ascii(it, b, e)) {
+            return new String(
+                it, 0, b, l
+            );
+        }
+
         return new String(
-            value, b, l, UTF_8
+            it, b, l, UTF_8
         );
     }
 
+    /**
+     * Returns {@code true} if the bytes in the specified range are all ASCII,
+     * which are then copied into a Latin-1 string without the UTF-8 decoder
+     *
+     * @param it the specified byte array
+     * @param i  the beginning index, inclusive
+     * @param e  the ending index, exclusive
+     * @since 0.0.3
+     */
+    protected static boolean ascii(
+        @NotNull byte[] it, int i, int e
+    ) {
+        for (int m = e - 8; i <= m; i += 8) {
+            if ((it[i] | it[i + 1] | it[i + 2] | it[i + 3] |
+                it[i + 4] | it[i + 5] | it[i + 6] | it[i + 7]) < 0) {
+                return false;
+            }
+        }
+        for (; i < e; i++) {
+            if (it[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the {@code byte[]} of this {@link Chain} as a {@link String}
      *
@@ -117,7 +117,7 @@ public class Docx implements Solver {
                             }
 
                             throw new UnexpectedCrash(
-                                "Unexpectedly, byte '" + d + "' in end space"
+                                "Unexpectedly, byte '%s' in end space", d
                             );
                         }
                     }
@@ -202,7 +202,7 @@ public class Docx implements Solver {
                     break;
                 }
                 throw new UnexpectedCrash(
-                    "Unexpectedly, byte '" + b + "'"
+                    "Unexpectedly, byte '%s'", b
                 );
             }
 
@@ -230,7 +230,7 @@ public class Docx implements Solver {
             }
 
             throw new UnexpectedCrash(
-                "Unexpectedly, byte '" + b + "'"
+                "Unexpectedly, byte '%s'", b
             );
         }
     }
@@ -251,7 +251,7 @@ public class Docx implements Solver {
             }
 
             throw new UnexpectedCrash(
-                "Unexpectedly, byte '" + b + "'"
+                "Unexpectedly, byte '%s'", b
             );
         }
     }
@@ -339,7 +339,7 @@ public class Docx implements Solver {
         }
 
         throw new UnexpectedCrash(
-            "Unexpectedly, byte '" + b + "'"
+            "Unexpectedly, byte '%s'", b
         );
     }
 
@@ -354,7 +354,7 @@ public class Docx implements Solver {
                 b = r.next();
                 if (b != '-') {
                     throw new UnexpectedCrash(
-                        "Unexpectedly, byte '" + b + "'"
+                        "Unexpectedly, byte '%s'", b
                     );
                 }
 
@@ -387,7 +387,7 @@ public class Docx implements Solver {
                     }
 
                     throw new UnexpectedCrash(
-                        "Unexpectedly, byte '" + b + "'"
+                        "Unexpectedly, byte '%s'", b
                     );
                 }
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.kernel;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.utils.Config;
+import plus.kat.utils.Meter;
+
+/**
+ * A bounded intern table of the short ASCII strings decoded from {@link Chain},
+ * such as the keys of maps and repeated values like status codes. A slot is found
+ * by the hash of the bytes and checked against them, so a hit creates no string.
+ * It is disabled by default, enable it with {@code -Dkat.intern.enabled=true}
+ *
+ * <pre>{@code
+ *   Alias alias = ...
+ *   String key = Intern.of(alias);
+ * }</pre>
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+public final class Intern {
+    /**
+     * The default intern table, or {@code null} if disabled
+     */
+    public static final Intern INS;
+
+    static {
+        if (Config.get(
+            "kat.intern.enabled", false
+        )) {
+            INS = new Intern(
+                Config.get(
+                    "kat.intern.capacity", 4096
+                ),
+                Config.get(
+                    "kat.intern.limit", 32
+                )
+            );
+        } else {
+            INS = null;
+        }
+    }
+
+    private final int limit;
+
+    /**
+     * racy slots, safe since
+     * strings are immutable
+     */
+    private final String[] table;
+
+    /**
+     * @param capacity the number of slots, rounded up to a power of two
+     * @param limit    the maximum length of interned chains
+     */
+    public Intern(
+        int capacity, int limit
+    ) {
+        int cap = 1;
+        while (cap < capacity) {
+            cap <<= 1;
+        }
+        this.limit = limit;
+        this.table = new String[cap];
+    }
+
+    /**
+     * Returns the interned string of the specified {@link Chain}
+     * by the default table if enabled, otherwise a new string
+     *
+     * @param c the specified chain
+     */
+    @NotNull
+    public static String of(
+        @NotNull Chain c
+    ) {
+        Intern in = INS;
+        if (in == null) {
+            return c.toString();
+        }
+        return in.lookup(c);
+    }
+
+    /**
+     * Returns the interned string of the specified {@link Chain}
+     * if it is short ASCII, otherwise a new string
+     *
+     * @param c the specified chain
+     */
+    @NotNull
+    public String lookup(
+        @NotNull Chain c
+    ) {
+        int l = c.count;
+        if (l == 0 || l > limit) {
+            return c.toString();
+        }
+
+        byte[] v = c.value;
+        if (!Chain.ascii(v, 0, l)) {
+            return c.toString();
+        }
+
+        // the hash of ASCII bytes
+        // equals the hash of string
+        int h = c.hashCode();
+        String[] tab = table;
+        int i = (h ^ (h >>> 16)) & (tab.length - 1);
+
+        String s = tab[i];
+        if (s != null &&
+            s.hashCode() == h &&
+            s.length() == l) {
+            int n = 0;
+            while (n < l && s.charAt(n) == v[n]) {
+                n++;
+            }
+            if (n == l) {
+                if (Meter.ENABLED) {
+                    Meter.INS.count(
+                        Meter.Probe.INTERN_HIT
+                    );
+                }
+                return s;
+            }
+        }
+
+        if (Meter.ENABLED) {
+            Meter.INS.count(
+                Meter.Probe.INTERN_MISS
+            );
+        }
+        return tab[i] = c.toString();
+    }
+}
@@ -80,7 +80,7 @@ public class Mage implements Solver {
                     }
                 }
                 throw new UnexpectedCrash(
-                    "Unexpectedly, byte '" + b + "' <= 32"
+                    "Unexpectedly, byte '%s' <= 32", b
                 );
             }
 
@@ -95,7 +95,7 @@ public class Mage implements Solver {
                 }
                 default: {
                     throw new UnexpectedCrash(
-                        "Unexpectedly, byte '" + b + "'"
+                        "Unexpectedly, byte '%s'", b
                     );
                 }
             }
@@ -117,7 +117,7 @@ public class Mage implements Solver {
                             }
                         }
                         throw new UnexpectedCrash(
-                            "Unexpectedly, byte '" + b + "' <= 32"
+                            "Unexpectedly, byte '%s' <= 32", b
                         );
                     }
 
@@ -139,7 +139,7 @@ public class Mage implements Solver {
                         }
                         default: {
                             throw new UnexpectedCrash(
-                                "Unexpectedly, byte '" + b + "' in alias"
+                                "Unexpectedly, byte '%s' in alias", b
                             );
                         }
                     }
@@ -159,7 +159,7 @@ public class Mage implements Solver {
                         }
                     }
                     throw new UnexpectedCrash(
-                        "Unexpectedly, byte '" + b + "' <= 32"
+                        "Unexpectedly, byte '%s' <= 32", b
                     );
                 }
 
@@ -196,7 +196,7 @@ public class Mage implements Solver {
                         continue Boot;
                     }
                     default: {
-                        value.chain(b);
+                        value.scan(b);
                     }
                 }
 
@@ -212,7 +212,7 @@ public class Mage implements Solver {
                             }
                         }
                         throw new UnexpectedCrash(
-                            "Unexpectedly, byte '" + b + "' <= 32"
+                            "Unexpectedly, byte '%s' <= 32", b
                         );
                     }
 
@@ -232,7 +232,7 @@ public class Mage implements Solver {
                             continue Boot;
                         }
                         default: {
-                            value.chain(c);
+                            value.scan(c);
                         }
                     }
                 }
@@ -311,10 +311,10 @@ public class Mage implements Solver {
             (b3 != 'l' && b3 != 'L') ||
             (b4 != 'l' && b4 != 'L')) {
             throw new UnexpectedCrash(
-                "Unexpectedly, N" +
-                    (char) (b2 & 0xFF) +
-                    (char) (b3 & 0xFF) +
-                    (char) (b3 & 0xFF) + " is not null"
+                "Unexpectedly, N%s%s%s is not null",
+                (char) (b2 & 0xFF),
+                (char) (b3 & 0xFF),
+                (char) (b4 & 0xFF)
             );
         }
     }
@@ -101,7 +101,7 @@ public class Radar implements Solver {
                                 }
                             }
                         throw new UnexpectedCrash(
-                            "Unexpectedly, byte '" + b + "' <= 32 in space"
+                            "Unexpectedly, byte '%s' <= 32 in space", b
                         );
                     }
                     switch (b) {
@@ -128,7 +128,7 @@ public class Radar implements Solver {
                                 continue;
                             }
                             throw new UnexpectedCrash(
-                                "Unexpectedly, byte '" + b + "' in space."
+                                "Unexpectedly, byte '%s' in space.", b
                             );
                         }
                         case '}': {
@@ -140,13 +140,13 @@ public class Radar implements Solver {
                                 }
                             }
                             throw new UnexpectedCrash(
-                                "Unexpectedly, byte '" + b + "' in space."
+                                "Unexpectedly, byte '%s' in space.", b
                             );
                         }
                         case '^':
                         case ')': {
                             throw new UnexpectedCrash(
-                                "Unexpectedly, byte '" + b + "' in space, it can't be here."
+                                "Unexpectedly, byte '%s' in space, it can't be here.", b
                             );
                         }
                         default: {
@@ -163,7 +163,7 @@ public class Radar implements Solver {
                     byte b = r.next();
                     if (b <= 0x20) {
                         throw new UnexpectedCrash(
-                            "Unexpectedly, byte '" + b + "' <= 32 in alias"
+                            "Unexpectedly, byte '%s' <= 32 in alias", b
                         );
                     }
                     switch (b) {
@@ -192,7 +192,7 @@ public class Radar implements Solver {
                         case ')':
                         case '}': {
                             throw new UnexpectedCrash(
-                                "Unexpectedly, byte '" + b + "' in alias, it can't be here."
+                                "Unexpectedly, byte '%s' in alias, it can't be here.", b
                             );
                         }
                         default: {
@@ -221,11 +221,11 @@ public class Radar implements Solver {
                         }
                         case '(': {
                             throw new UnexpectedCrash(
-                                "Unexpectedly, byte '" + b + "' in value, it can't be here."
+                                "Unexpectedly, byte '%s' in value, it can't be here.", b
                             );
                         }
                         default: {
-                            v.chain(b);
+                            v.scan(b);
                         }
                     }
                 }
@@ -41,7 +41,7 @@ import static plus.kat.utils.Reflect.lookup;
 public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Maker<T>, Worker<T> {
 
     private MethodHandle handle;
-    private Constructor<T> builder;
+    private MethodHandle builder;
 
     protected Class<?> owner;
     protected boolean marker;
@@ -94,7 +94,7 @@ public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Make
         @NotNull Alias alias
     ) throws Crash {
         try {
-            return (T) handle.invoke();
+            return (T) handle.invokeExact();
         } catch (Throwable e) {
             throw new Crash(e);
         }
@@ -102,12 +102,13 @@ public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Make
 
     @Override
     @Nullable
+    @SuppressWarnings("unchecked")
     public T apply(
         @NotNull Alias alias,
         @NotNull Object... params
     ) throws Crash {
         try {
-            return builder.newInstance(params);
+            return (T) builder.invokeExact(params);
         } catch (Throwable e) {
             throw new Crash(e);
         }
@@ -482,7 +483,6 @@ public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Make
     /**
      * @param constructors the specified {@link Constructor} collection
      */
-    @SuppressWarnings("unchecked")
     protected void onConstructors(
         @NotNull Constructor<?>[] constructors
     ) {
@@ -505,17 +505,29 @@ public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Make
         }
 
         b.setAccessible(true);
-        builder = (Constructor<T>) b;
 
         int count = b.getParameterCount();
         if (count == 0) {
             try {
-                handle = lookup.
-                    unreflectConstructor(b);
+                handle = lookup.unreflectConstructor(b).asType(
+                    MethodType.methodType(Object.class)
+                );
             } catch (Throwable e) {
                 // Nothing
             }
         } else {
+            try {
+                builder = lookup.unreflectConstructor(b).asSpreader(
+                    Object[].class, count
+                ).asType(
+                    MethodType.methodType(
+                        Object.class, Object[].class
+                    )
+                );
+            } catch (Throwable e) {
+                // Nothing
+            }
+
             Parameter[] ps = null;
             params = new KatMap<>();
 
@@ -597,6 +609,20 @@ public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Make
         final MethodHandle setter;
         final MethodHandle getter;
 
+        /**
+         * primitive handles typed as
+         * (Object, klass)void and (Object)klass
+         */
+        MethodHandle exactSetter;
+        MethodHandle exactGetter;
+
+        /**
+         * the last supplier that resolved klass to its
+         * default primitive spare, checked once per supplier
+         * rather than looked up on each value
+         */
+        volatile Supplier direct;
+
         public Handle(
             Handle<?> handle
         ) {
@@ -606,6 +632,8 @@ public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Make
             this.coder = handle.coder;
             this.setter = handle.setter;
             this.getter = handle.getter;
+            this.exactSetter = handle.exactSetter;
+            this.exactGetter = handle.exactGetter;
             this.nullable = handle.nullable;
             this.unwrapped = handle.unwrapped;
         }
@@ -623,6 +651,19 @@ public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Make
             setter = lookup.unreflectSetter(field);
             getter = lookup.unreflectGetter(field);
 
+            if (klass.isPrimitive()) {
+                exactSetter = setter.asType(
+                    MethodType.methodType(
+                        void.class, Object.class, klass
+                    )
+                );
+                exactGetter = getter.asType(
+                    MethodType.methodType(
+                        klass, Object.class
+                    )
+                );
+            }
+
             nullable = field.getAnnotation(NotNull.class) == null;
             unwrapped = field.getAnnotation(Unwrapped.class) != null;
 
@@ -659,6 +700,22 @@ public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Make
             method.setAccessible(true);
             getter = setter = lookup.unreflect(method);
 
+            if (klass.isPrimitive()) {
+                if (method.getParameterCount() == 0) {
+                    exactGetter = getter.asType(
+                        MethodType.methodType(
+                            klass, Object.class
+                        )
+                    );
+                } else {
+                    exactSetter = setter.asType(
+                        MethodType.methodType(
+                            void.class, Object.class, klass
+                        )
+                    );
+                }
+            }
+
             nullable = method.getAnnotation(NotNull.class) == null;
             unwrapped = method.getAnnotation(Unwrapped.class) != null;
 
@@ -723,6 +780,168 @@ public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Make
             }
         }
 
+        @Override
+        public boolean onAccept(
+            @NotNull K it,
+            @NotNull Flag flag,
+            @NotNull Value value,
+            @NotNull Supplier supplier
+        ) throws IOCrash {
+            MethodHandle h = exactSetter;
+            if (h == null || coder != null) {
+                return false;
+            }
+
+            Class<?> k = klass;
+            if (direct != supplier) {
+                Spare<?> spare = supplier.lookup(k);
+                if (spare == null ||
+                    spare != primitive(k)) {
+                    return false;
+                }
+                direct = supplier;
+            }
+
+            try {
+                if (k == int.class) {
+                    h.invokeExact(
+                        (Object) it, IntegerSpare.INSTANCE.readInt(flag, value)
+                    );
+                } else if (k == long.class) {
+                    h.invokeExact(
+                        (Object) it, LongSpare.INSTANCE.readLong(flag, value)
+                    );
+                } else if (k == double.class) {
+                    h.invokeExact(
+                        (Object) it, DoubleSpare.INSTANCE.readDouble(flag, value)
+                    );
+                } else if (k == boolean.class) {
+                    h.invokeExact(
+                        (Object) it, BooleanSpare.INSTANCE.readBoolean(flag, value)
+                    );
+                } else if (k == float.class) {
+                    h.invokeExact(
+                        (Object) it, FloatSpare.INSTANCE.readFloat(flag, value)
+                    );
+                } else if (k == short.class) {
+                    h.invokeExact(
+                        (Object) it, ShortSpare.INSTANCE.readShort(flag, value)
+                    );
+                } else if (k == byte.class) {
+                    h.invokeExact(
+                        (Object) it, ByteSpare.INSTANCE.readByte(flag, value)
+                    );
+                } else if (k == char.class) {
+                    h.invokeExact(
+                        (Object) it, CharSpare.INSTANCE.readChar(flag, value)
+                    );
+                } else {
+                    return false;
+                }
+            } catch (IOCrash e) {
+                throw e;
+            } catch (Throwable e) {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Returns the default spare of the specified primitive class
+         */
+        @Nullable
+        static Spare<?> primitive(
+            @NotNull Class<?> klass
+        ) {
+            if (klass == int.class) {
+                return IntegerSpare.INSTANCE;
+            }
+            if (klass == long.class) {
+                return LongSpare.INSTANCE;
+            }
+            if (klass == double.class) {
+                return DoubleSpare.INSTANCE;
+            }
+            if (klass == boolean.class) {
+                return BooleanSpare.INSTANCE;
+            }
+            if (klass == float.class) {
+                return FloatSpare.INSTANCE;
+            }
+            if (klass == short.class) {
+                return ShortSpare.INSTANCE;
+            }
+            if (klass == byte.class) {
+                return ByteSpare.INSTANCE;
+            }
+            if (klass == char.class) {
+                return CharSpare.INSTANCE;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean write(
+            @NotNull Chan chan,
+            @NotNull CharSequence alias,
+            @NotNull Object it
+        ) throws IOCrash {
+            MethodHandle h = exactGetter;
+            if (h == null ||
+                coder != null || unwrapped) {
+                return false;
+            }
+
+            Class<?> k = klass;
+            try {
+                if (k == int.class) {
+                    return chan.set(
+                        alias, (int) h.invokeExact(it)
+                    );
+                }
+                if (k == long.class) {
+                    return chan.set(
+                        alias, (long) h.invokeExact(it)
+                    );
+                }
+                if (k == double.class) {
+                    return chan.set(
+                        alias, (double) h.invokeExact(it)
+                    );
+                }
+                if (k == boolean.class) {
+                    return chan.set(
+                        alias, (boolean) h.invokeExact(it)
+                    );
+                }
+                if (k == float.class) {
+                    return chan.set(
+                        alias, (float) h.invokeExact(it)
+                    );
+                }
+                if (k == short.class) {
+                    return chan.set(
+                        alias, (short) h.invokeExact(it)
+                    );
+                }
+                if (k == byte.class) {
+                    return chan.set(
+                        alias, (byte) h.invokeExact(it)
+                    );
+                }
+                if (k == char.class) {
+                    return chan.set(
+                        alias, (char) h.invokeExact(it)
+                    );
+                }
+            } catch (IOCrash e) {
+                throw e;
+            } catch (Throwable e) {
+                // Nothing
+            }
+            return false;
+        }
+
         @Override
         public Class<?> getType() {
             return klass;
@@ -850,9 +1069,13 @@ public class ReflectSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Make
                     i, alias
                 );
                 if (setter != null) {
-                    onAccept(
-                        space, value, setter
-                    );
+                    if (!setter.onAccept(
+                        entity, flag, value, supplier
+                    )) {
+                        onAccept(
+                            space, value, setter
+                        );
+                    }
                 }
             } else {
                 target = worker.target(
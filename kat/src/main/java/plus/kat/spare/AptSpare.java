@@ -0,0 +1,350 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.spare;
+
+import plus.kat.anno.*;
+
+import plus.kat.*;
+import plus.kat.chain.*;
+import plus.kat.crash.*;
+import plus.kat.entity.*;
+import plus.kat.utils.Reflect;
+
+import java.lang.reflect.*;
+import java.util.Map;
+
+/**
+ * The base of the {@link Spare} generated at compile time for the class annotated
+ * with {@link Embed}, the properties are dispatched by slot without reflection
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+public abstract class AptSpare<T> extends SuperSpare<T, Setter<T, ?>> implements Worker<T> {
+
+    protected AptSpare(
+        @Nullable Embed embed,
+        @NotNull Class<T> klass,
+        @NotNull Provider provider,
+        @NotNull Supplier supplier
+    ) {
+        super(embed, klass, provider, supplier);
+    }
+
+    /**
+     * Returns the value of the property at the specified {@code slot}
+     *
+     * @param it   the specified entity
+     * @param slot the specified slot
+     */
+    @Nullable
+    protected abstract Object onApply(
+        @NotNull T it, int slot
+    );
+
+    /**
+     * Sets the value of the property at the specified {@code slot}
+     *
+     * @param it   the specified entity
+     * @param slot the specified slot
+     * @param val  the specified value
+     */
+    protected abstract void onAccept(
+        @NotNull T it, int slot, @Nullable Object val
+    );
+
+    @Override
+    @Nullable
+    public T apply(
+        @NotNull Alias alias,
+        @NotNull Object... params
+    ) throws Crash {
+        return apply(alias);
+    }
+
+    @Override
+    @Nullable
+    public T cast(
+        @NotNull Supplier supplier,
+        @NotNull Map<?, ?> data
+    ) throws Exception {
+        // create ins
+        T entity = apply(
+            Alias.EMPTY
+        );
+
+        if (entity == null) {
+            return null;
+        }
+
+        // foreach
+        for (Map.Entry<?, ?> entry : data.entrySet()) {
+            // key
+            Object key = entry.getKey();
+            if (key == null) {
+                continue;
+            }
+
+            // try lookup
+            Setter<T, ?> setter = get(key);
+            if (setter == null) {
+                continue;
+            }
+
+            // get spare specified
+            Spare<?> spare = supplier.lookup(
+                setter.getType()
+            );
+            if (spare == null) {
+                continue;
+            }
+
+            setter.onAccept(
+                entity, spare.cast(
+                    supplier, entry.getValue()
+                )
+            );
+        }
+
+        return entity;
+    }
+
+    @Override
+    @Nullable
+    public Setter<T, ?> setter(
+        @NotNull int index,
+        @NotNull Alias alias
+    ) {
+        return get(
+            alias.isEmpty() ? index : alias
+        );
+    }
+
+    @Override
+    public Setter<T, ?> put(
+        @NotNull Object key,
+        @Nullable Setter<T, ?> val
+    ) {
+        throw new RunCrash();
+    }
+
+    @Override
+    protected void setter(
+        @NotNull Object key,
+        @NotNull Setter<T, ?> setter
+    ) {
+        super.put(key, setter);
+    }
+
+    /**
+     * Returns the declared field of the specified {@code name} or {@code null}
+     *
+     * @param name the specified name
+     */
+    @Nullable
+    protected Field field(
+        @NotNull String name
+    ) {
+        try {
+            return klass.getDeclaredField(name);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the declared method of the specified {@code name} or {@code null}
+     *
+     * @param name   the specified name
+     * @param params the specified parameter types
+     */
+    @Nullable
+    protected Method method(
+        @NotNull String name,
+        @NotNull Class<?>... params
+    ) {
+        try {
+            return klass.getDeclaredMethod(name, params);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the generic type of the specified {@link Field} or {@link Method},
+     * or the specified {@code raw} class if it is not found
+     *
+     * @param element the specified element
+     * @param raw     the specified raw class
+     */
+    @NotNull
+    protected Type actual(
+        @Nullable AnnotatedElement element,
+        @NotNull Class<?> raw
+    ) {
+        if (element instanceof Field) {
+            return ((Field) element).getGenericType();
+        }
+
+        if (element instanceof Method) {
+            Method method = (Method) element;
+            if (method.getParameterCount() == 0) {
+                return method.getGenericReturnType();
+            }
+            return method.getGenericParameterTypes()[0];
+        }
+
+        return raw;
+    }
+
+    /**
+     * Returns the {@link Coder} specified by {@link Expose} or {@link Format}
+     * of the specified {@link Field} or {@link Method}
+     *
+     * @param raw     the specified raw class
+     * @param element the specified element
+     */
+    @Nullable
+    protected Coder<?> activate(
+        @NotNull Class<?> raw,
+        @Nullable AnnotatedElement element
+    ) {
+        if (element == null) {
+            return null;
+        }
+
+        return Reflect.activate(
+            raw, element.getAnnotation(Expose.class),
+            element.getAnnotation(Format.class), supplier
+        );
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    public static class Property<K>
+        extends Node<K>
+        implements Setter<K, Object> {
+
+        protected final int slot;
+        protected final Type type;
+        protected final Class<?> klass;
+        protected final AptSpare<K> spare;
+
+        public Property(
+            @NotNull AptSpare<K> spare,
+            int slot,
+            int index,
+            @NotNull Class<?> klass,
+            @NotNull Type type,
+            @Nullable Coder<?> coder,
+            boolean nullable,
+            boolean unwrapped
+        ) {
+            super(index);
+            this.spare = spare;
+            this.slot = slot;
+            this.klass = klass;
+            this.type = type;
+            this.coder = coder;
+            this.nullable = nullable;
+            this.unwrapped = unwrapped;
+        }
+
+        public Property(
+            @NotNull Property<K> property
+        ) {
+            super(property);
+            this.spare = property.spare;
+            this.slot = property.slot;
+            this.klass = property.klass;
+            this.type = property.type;
+            this.coder = property.coder;
+            this.unwrapped = property.unwrapped;
+        }
+
+        @Nullable
+        @Override
+        public Object apply(
+            @NotNull K it
+        ) {
+            try {
+                return spare.onApply(
+                    it, slot
+                );
+            } catch (Exception e) {
+                // Nothing
+            }
+            return null;
+        }
+
+        @Nullable
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object onApply(
+            @NotNull Object it
+        ) {
+            try {
+                return spare.onApply(
+                    (K) it, slot
+                );
+            } catch (Exception e) {
+                // Nothing
+            }
+            return null;
+        }
+
+        @Override
+        public void accept(
+            @NotNull K it,
+            @Nullable Object val
+        ) {
+            if (val != null || nullable) {
+                try {
+                    spare.onAccept(
+                        it, slot, val
+                    );
+                } catch (Exception e) {
+                    // Nothing
+                }
+            }
+        }
+
+        @Override
+        public void onAccept(
+            @NotNull K it,
+            @Nullable Object val
+        ) {
+            accept(it, val);
+        }
+
+        @Override
+        public Class<?> getType() {
+            return klass;
+        }
+
+        @Override
+        public Type getActualType() {
+            return type;
+        }
+
+        @Override
+        public Property<K> clone() {
+            return new Property<>(this);
+        }
+    }
+}
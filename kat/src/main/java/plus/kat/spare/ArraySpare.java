@@ -93,6 +93,18 @@ public class ArraySpare implements Spare<Object> {
         @NotNull Chan chan,
         @NotNull Object value
     ) throws IOCrash {
+        if (value instanceof Object[]) {
+            Inline inline =
+                new Inline(chan);
+
+            for (Object v : (Object[]) value) {
+                inline.set(
+                    null, v
+                );
+            }
+            return;
+        }
+
         int l = Array.getLength(value);
         for (int i = 0; i < l; i++) {
             chan.set(
@@ -153,7 +153,7 @@ public class BitSetSpare implements Spare<BitSet> {
             @NotNull Alias alias
         ) throws IOCrash {
             throw new UnexpectedCrash(
-                "Unexpectedly, invalid BitSet value type '" + space + "'"
+                "Unexpectedly, invalid BitSet value type '%s'", space.toString()
             );
         }
 
@@ -120,13 +120,40 @@ public class BooleanSpare implements Spare<Boolean>, Serializable {
         return value.toBoolean();
     }
 
+    /**
+     * Reads the {@code boolean} value of the specified {@link Value} without boxing
+     *
+     * @since 0.0.3
+     */
+    public boolean readBoolean(
+        @NotNull Flag flag,
+        @NotNull Value value
+    ) {
+        return value.toBoolean();
+    }
+
     @Override
     public void write(
         @NotNull Flow flow,
         @NotNull Object value
+    ) throws IOCrash {
+        writeBoolean(
+            flow, (boolean) value
+        );
+    }
+
+    /**
+     * Writes the specified {@code boolean} value without boxing
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public void writeBoolean(
+        @NotNull Flow flow,
+        boolean value
     ) throws IOCrash {
         flow.addBoolean(
-            (boolean) value
+            value
         );
     }
 }
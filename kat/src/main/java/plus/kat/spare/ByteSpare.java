@@ -107,13 +107,40 @@ public class ByteSpare extends NumberSpare<Byte> {
         return value.toByte();
     }
 
+    /**
+     * Reads the {@code byte} value of the specified {@link Value} without boxing
+     *
+     * @since 0.0.3
+     */
+    public byte readByte(
+        @NotNull Flag flag,
+        @NotNull Value value
+    ) {
+        return value.toByte();
+    }
+
     @Override
     public void write(
         @NotNull Flow flow,
         @NotNull Object value
+    ) throws IOCrash {
+        writeByte(
+            flow, (byte) value
+        );
+    }
+
+    /**
+     * Writes the specified {@code byte} value without boxing
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public void writeByte(
+        @NotNull Flow flow,
+        byte value
     ) throws IOCrash {
         flow.addInt(
-            (byte) value
+            value
         );
     }
 }
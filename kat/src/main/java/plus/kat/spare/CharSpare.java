@@ -115,13 +115,40 @@ public class CharSpare implements Spare<Character> {
         return value.toChar();
     }
 
+    /**
+     * Reads the {@code char} value of the specified {@link Value} without boxing
+     *
+     * @since 0.0.3
+     */
+    public char readChar(
+        @NotNull Flag flag,
+        @NotNull Value value
+    ) {
+        return value.toChar();
+    }
+
     @Override
     public void write(
         @NotNull Flow flow,
         @NotNull Object value
+    ) throws IOCrash {
+        writeChar(
+            flow, (char) value
+        );
+    }
+
+    /**
+     * Writes the specified {@code char} value without boxing
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public void writeChar(
+        @NotNull Flow flow,
+        char value
     ) throws IOCrash {
         flow.emit(
-            (char) value
+            value
         );
     }
 }
@@ -27,24 +27,57 @@ import plus.kat.utils.*;
 
 import java.io.Serializable;
 import java.lang.reflect.Type;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Locale;
-import java.util.TimeZone;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * The thread-safe {@link Spare} of {@link Date}, the fixed-width numeric
+ * patterns are parsed from and formatted into bytes directly without locks,
+ * and the others fall back to a {@link SimpleDateFormat} held per thread.
+ * Since 0.0.3 it no longer extends {@link SimpleDateFormat}, and only keeps
+ * its immutable part, such as {@link #parse(String)} and {@link #format(Date)}
+ *
  * @author kraity
  * @since 0.0.1
  */
-public class DateSpare extends SimpleDateFormat implements Spare<Date>, Serializable {
+public class DateSpare implements Spare<Date>, Serializable {
 
     public static final DateSpare
         INSTANCE = new DateSpare();
 
+    private static final Map<String, DateSpare>
+        CACHE = new ConcurrentHashMap<>();
+
+    private static final long MISS = Long.MIN_VALUE;
+
+    private static final byte
+        YEAR = 1, MONTH = 2, DAY = 3, HOUR = 4,
+        MINUTE = 5, SECOND = 6, MILLIS = 7;
+
+    protected final String pattern;
+    protected final String zone;
+    protected final String language;
+
+    private transient final TimeZone timeZone;
+    private transient final ZoneRules rules;
+    private transient final byte[] fields;
+    private transient final char[] marks;
+    private transient final int mask;
+    private transient final boolean offset;
+    private transient final ThreadLocal<SimpleDateFormat> local;
+
     public DateSpare() {
-        super(Config.get(
+        this(Config.get(
             "kat.spare.date.format", "yyyy-MM-dd HH:mm:ss"
-        ));
+        ), "", "");
     }
 
     public DateSpare(
@@ -58,12 +91,131 @@ public class DateSpare extends SimpleDateFormat implements Spare<Date>, Serializ
         @NotNull String zone,
         @NotNull String language
     ) {
-        super(pattern, LocaleSpare.lookup(language, Locale.Category.FORMAT));
+        this.pattern = pattern;
+        this.zone = zone;
+        this.language = language;
+
+        SimpleDateFormat sdf = new SimpleDateFormat(
+            pattern, LocaleSpare.lookup(language, Locale.Category.FORMAT)
+        );
         if (!zone.isEmpty()) {
-            super.setTimeZone(
+            sdf.setTimeZone(
                 TimeZone.getTimeZone(zone)
             );
         }
+
+        timeZone = sdf.getTimeZone();
+        rules = timeZone.toZoneId().getRules();
+        local = ThreadLocal.withInitial(
+            () -> (SimpleDateFormat) sdf.clone()
+        );
+
+        byte[] fs = null;
+        char[] ms = null;
+        int seen = 0;
+        boolean os = false;
+
+        NumberFormat nf = sdf.getNumberFormat();
+        if (sdf.getCalendar() instanceof GregorianCalendar &&
+            nf instanceof DecimalFormat &&
+            ((DecimalFormat) nf).getDecimalFormatSymbols().getZeroDigit() == '0') {
+            int n = pattern.length();
+            fs = new byte[n];
+            ms = new char[n];
+
+            int w = 0;
+            for (int i = 0; i < n; ) {
+                char c = pattern.charAt(i);
+                if (c == '\'') {
+                    int e = pattern.indexOf('\'', i + 1);
+                    if (e <= i + 1) {
+                        fs = null;
+                        break;
+                    }
+                    while (++i < e) {
+                        ms[w++] = pattern.charAt(i);
+                    }
+                    i++;
+                    continue;
+                }
+
+                int j = i + 1;
+                while (j < n && pattern.charAt(j) == c) j++;
+
+                if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {
+                    for (; i < j; i++) {
+                        ms[w++] = c;
+                    }
+                    continue;
+                }
+
+                int l = j - i;
+                if (c == 'X' && l == 3 && j == n) {
+                    os = true;
+                    break;
+                }
+
+                byte f = field(c, l);
+                if (f == 0 || (seen & (1 << f)) != 0) {
+                    fs = null;
+                    break;
+                }
+
+                seen |= 1 << f;
+                for (; i < j; i++) {
+                    fs[w++] = f;
+                }
+            }
+
+            if (fs != null) {
+                for (int i = 0; i < w; i++) {
+                    if (ms[i] > 0x7F) {
+                        fs = null;
+                        break;
+                    }
+                }
+                if (fs != null && w != n) {
+                    fs = Arrays.copyOf(fs, w);
+                    ms = Arrays.copyOf(ms, w);
+                }
+            }
+        }
+
+        fields = fs;
+        marks = fs == null ? null : ms;
+        mask = seen;
+        offset = fs != null && os;
+    }
+
+    /**
+     * Returns the shared {@link DateSpare} of the specified {@link Format}
+     *
+     * @since 0.0.3
+     */
+    @NotNull
+    public static DateSpare of(
+        @NotNull Format format
+    ) {
+        return of(
+            format.value(), format.zone(), format.lang()
+        );
+    }
+
+    /**
+     * Returns the shared {@link DateSpare} of the specified pattern, zone and language
+     *
+     * @since 0.0.3
+     */
+    @NotNull
+    public static DateSpare of(
+        @NotNull String pattern,
+        @NotNull String zone,
+        @NotNull String language
+    ) {
+        return CACHE.computeIfAbsent(
+            pattern + '\0' + zone + '\0' + language,
+            k -> new DateSpare(pattern, zone, language)
+        );
     }
 
     @NotNull
@@ -110,15 +262,9 @@ public class DateSpare extends SimpleDateFormat implements Spare<Date>, Serializ
         }
 
         if (data instanceof String) {
-            synchronized (this) {
-                try {
-                    return parse(
-                        (String) data
-                    );
-                } catch (Exception e) {
-                    return null;
-                }
-            }
+            return parse(
+                (CharSequence) data
+            );
         }
 
         return null;
@@ -149,14 +295,7 @@ public class DateSpare extends SimpleDateFormat implements Spare<Date>, Serializ
             }
         }
 
-        String text = value.toString();
-        synchronized (this) {
-            try {
-                return parse(text);
-            } catch (Exception e) {
-                return null;
-            }
-        }
+        return parse(value);
     }
 
     @Override
@@ -170,17 +309,386 @@ public class DateSpare extends SimpleDateFormat implements Spare<Date>, Serializ
                 date.getTime()
             );
         } else {
-            String s;
-            synchronized (this) {
-                s = format(date);
-            }
             if (flow.getJob() != Job.JSON) {
-                flow.emit(s);
+                format(flow, date);
             } else {
                 flow.addByte((byte) '"');
-                flow.emit(s);
+                format(flow, date);
                 flow.addByte((byte) '"');
             }
         }
     }
+
+    /**
+     * Parses the specified text into a {@link Date}
+     *
+     * @return {@link Date} or null if the text cannot be parsed
+     * @since 0.0.3
+     */
+    @Nullable
+    public Date parse(
+        @NotNull CharSequence text
+    ) {
+        long time = resolve(text);
+        if (time != MISS) {
+            return new Date(time);
+        }
+
+        try {
+            return local.get().parse(
+                text.toString()
+            );
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the specified text into a {@link Date},
+     * like {@link SimpleDateFormat#parse(String)}
+     *
+     * @throws ParseException If the text cannot be parsed
+     * @since 0.0.3
+     */
+    @NotNull
+    public Date parse(
+        @NotNull String text
+    ) throws ParseException {
+        long time = resolve(text);
+        if (time != MISS) {
+            return new Date(time);
+        }
+
+        return local.get().parse(text);
+    }
+
+    /**
+     * Formats the specified {@link Date} into a {@link String},
+     * like {@link SimpleDateFormat#format(Date)}
+     *
+     * @since 0.0.3
+     */
+    @NotNull
+    public String format(
+        @NotNull Date date
+    ) {
+        return local.get().format(date);
+    }
+
+    /**
+     * Returns the pattern of this, like {@link SimpleDateFormat#toPattern()}
+     *
+     * @since 0.0.3
+     */
+    @NotNull
+    public String toPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the {@link TimeZone} of this, like {@link SimpleDateFormat#getTimeZone()}
+     *
+     * @since 0.0.3
+     */
+    @NotNull
+    public TimeZone getTimeZone() {
+        return timeZone;
+    }
+
+    /**
+     * Formats the specified {@link Date} into the {@link Flow}
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public void format(
+        @NotNull Flow flow,
+        @NotNull Date date
+    ) throws IOCrash {
+        if (!compose(flow, date.getTime())) {
+            flow.emit(
+                local.get().format(date)
+            );
+        }
+    }
+
+    /**
+     * Returns the epoch millis of the fixed-width text or {@link #MISS}
+     */
+    private long resolve(
+        @NotNull CharSequence t
+    ) {
+        byte[] fs = fields;
+        if (fs == null) {
+            return MISS;
+        }
+
+        int w = fs.length,
+            n = t.length();
+        if (offset ? n < w + 1 : n != w) {
+            return MISS;
+        }
+
+        int y = 0, mo = 0, d = 0,
+            h = 0, mi = 0, s = 0, ms = 0;
+        char[] ks = marks;
+
+        for (int i = 0; i < w; i++) {
+            char c = t.charAt(i);
+            byte f = fs[i];
+            if (f == 0) {
+                if (c != ks[i]) {
+                    return MISS;
+                }
+                continue;
+            }
+
+            int v = c - '0';
+            if (v < 0 || v > 9) {
+                return MISS;
+            }
+
+            switch (f) {
+                case YEAR: {
+                    y = y * 10 + v;
+                    break;
+                }
+                case MONTH: {
+                    mo = mo * 10 + v;
+                    break;
+                }
+                case DAY: {
+                    d = d * 10 + v;
+                    break;
+                }
+                case HOUR: {
+                    h = h * 10 + v;
+                    break;
+                }
+                case MINUTE: {
+                    mi = mi * 10 + v;
+                    break;
+                }
+                case SECOND: {
+                    s = s * 10 + v;
+                    break;
+                }
+                default: {
+                    ms = ms * 10 + v;
+                }
+            }
+        }
+
+        int m = mask;
+        if ((m & (1 << YEAR)) == 0) y = 1970;
+        if ((m & (1 << MONTH)) == 0) mo = 1;
+        if ((m & (1 << DAY)) == 0) d = 1;
+
+        if (y < 1583 || mo < 1 || mo > 12 || d < 1 ||
+            d > days(y, mo) || h > 23 || mi > 59 || s > 59) {
+            return MISS;
+        }
+
+        long sec = epochDay(y, mo, d) * 86400L
+            + h * 3600 + mi * 60 + s;
+
+        int off;
+        if (offset) {
+            char c = t.charAt(w);
+            if (c == 'Z') {
+                if (n != w + 1) {
+                    return MISS;
+                }
+                off = 0;
+            } else {
+                if (n != w + 6 ||
+                    (c != '+' && c != '-') ||
+                    t.charAt(w + 3) != ':') {
+                    return MISS;
+                }
+                int h1 = t.charAt(w + 1) - '0',
+                    h2 = t.charAt(w + 2) - '0',
+                    m1 = t.charAt(w + 4) - '0',
+                    m2 = t.charAt(w + 5) - '0';
+                if ((h1 | h2 | m1 | m2) < 0 ||
+                    h1 > 9 || h2 > 9 || m1 > 5 || m2 > 9) {
+                    return MISS;
+                }
+                off = (h1 * 10 + h2) * 3600 + (m1 * 10 + m2) * 60;
+                if (c == '-') {
+                    off = -off;
+                }
+            }
+        } else if (rules.isFixedOffset()) {
+            off = rules.getOffset(
+                Instant.EPOCH
+            ).getTotalSeconds();
+        } else {
+            List<ZoneOffset> offsets = rules.getValidOffsets(
+                LocalDateTime.ofEpochSecond(sec, 0, ZoneOffset.UTC)
+            );
+            if (offsets.size() != 1) {
+                return MISS;
+            }
+            off = offsets.get(0).getTotalSeconds();
+        }
+
+        return (sec - off) * 1000L + ms;
+    }
+
+    /**
+     * Writes the fixed-width text of the epoch millis, or returns false
+     */
+    private boolean compose(
+        @NotNull Flow flow,
+        long time
+    ) throws IOCrash {
+        byte[] fs = fields;
+        if (fs == null) {
+            return false;
+        }
+
+        int off = timeZone.getOffset(time);
+        long loc = time + off;
+        long day = Math.floorDiv(loc, 86400000L);
+        int tod = (int) Math.floorMod(loc, 86400000L);
+
+        // civil from days, see Howard Hinnant's algorithm
+        long z = day + 719468;
+        long era = Math.floorDiv(z, 146097);
+        int doe = (int) (z - era * 146097);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int d = doy - (153 * mp + 2) / 5 + 1;
+        int mo = mp < 10 ? mp + 3 : mp - 9;
+        long y = yoe + era * 400 + (mo <= 2 ? 1 : 0);
+
+        if (y < 1583 || y > 9999) {
+            return false;
+        }
+
+        char[] ks = marks;
+        for (int i = 0, w = fs.length; i < w; i++) {
+            byte f = fs[i];
+            if (f == 0) {
+                flow.emit(ks[i]);
+                continue;
+            }
+
+            int v;
+            switch (f) {
+                case YEAR: {
+                    v = (int) y;
+                    break;
+                }
+                case MONTH: {
+                    v = mo;
+                    break;
+                }
+                case DAY: {
+                    v = d;
+                    break;
+                }
+                case HOUR: {
+                    v = tod / 3600000;
+                    break;
+                }
+                case MINUTE: {
+                    v = tod / 60000 % 60;
+                    break;
+                }
+                case SECOND: {
+                    v = tod / 1000 % 60;
+                    break;
+                }
+                default: {
+                    v = tod % 1000;
+                }
+            }
+
+            int j = i + 1;
+            while (j < w && fs[j] == f) j++;
+            TemporalSpare.digits(flow, v, j - i);
+            i = j - 1;
+        }
+
+        if (offset) {
+            int s = off / 1000;
+            if (s == 0) {
+                flow.addByte((byte) 'Z');
+            } else {
+                if (s < 0) {
+                    s = -s;
+                    flow.addByte((byte) '-');
+                } else {
+                    flow.addByte((byte) '+');
+                }
+                TemporalSpare.digits(flow, s / 3600, 2);
+                flow.addByte((byte) ':');
+                TemporalSpare.digits(flow, s / 60 % 60, 2);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the field of the pattern letter and count, or zero if unsupported
+     */
+    private static byte field(
+        char c, int l
+    ) {
+        switch (c) {
+            case 'y': {
+                return l == 4 ? YEAR : 0;
+            }
+            case 'M': {
+                return l == 2 ? MONTH : 0;
+            }
+            case 'd': {
+                return l == 2 ? DAY : 0;
+            }
+            case 'H': {
+                return l == 2 ? HOUR : 0;
+            }
+            case 'm': {
+                return l == 2 ? MINUTE : 0;
+            }
+            case 's': {
+                return l == 2 ? SECOND : 0;
+            }
+            case 'S': {
+                return l == 3 ? MILLIS : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static int days(
+        int y, int m
+    ) {
+        if (m == 2) {
+            return (y & 3) == 0 && (y % 100 != 0 || y % 400 == 0) ? 29 : 28;
+        }
+        return m == 4 || m == 6 || m == 9 || m == 11 ? 30 : 31;
+    }
+
+    private static long epochDay(
+        int y, int m, int d
+    ) {
+        // days from civil, see Howard Hinnant's algorithm
+        y -= m <= 2 ? 1 : 0;
+        int era = y / 400;
+        int yoe = y - era * 400;
+        int doy = (153 * (m > 2 ? m - 3 : m + 9) + 2) / 5 + d - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097L + doe - 719468;
+    }
+
+    private Object readResolve() {
+        return of(
+            pattern, zone, language
+        );
+    }
 }
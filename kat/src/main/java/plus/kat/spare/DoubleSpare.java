@@ -102,18 +102,45 @@ public class DoubleSpare extends NumberSpare<Double> {
         return value.toDouble();
     }
 
+    /**
+     * Reads the {@code double} value of the specified {@link Value} without boxing
+     *
+     * @since 0.0.3
+     */
+    public double readDouble(
+        @NotNull Flag flag,
+        @NotNull Value value
+    ) {
+        return value.toDouble();
+    }
+
     @Override
     public void write(
         @NotNull Flow flow,
         @NotNull Object value
+    ) throws IOCrash {
+        writeDouble(
+            flow, (double) value
+        );
+    }
+
+    /**
+     * Writes the specified {@code double} value without boxing
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public void writeDouble(
+        @NotNull Flow flow,
+        double value
     ) throws IOCrash {
         if (flow.isFlag(Flag.FLOAT_AS_BITMAP)) {
             flow.addDouble(
-                (double) value, true
+                value, true
             );
         } else {
             flow.addDouble(
-                (double) value
+                value
             );
         }
     }
@@ -23,11 +23,14 @@ import plus.kat.*;
 import plus.kat.chain.*;
 import plus.kat.crash.*;
 import plus.kat.entity.*;
+import plus.kat.kernel.Chain;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /**
  * @author kraity
  * @since 0.0.1
@@ -39,6 +42,18 @@ public class EnumSpare<K extends Enum<K>> implements Spare<Enum<K>>, Serializabl
     private final Class<K> klass;
     private final CharSequence space;
 
+    /**
+     * open addressing table of the ordinals,
+     * indexed by the hash of the name bytes
+     */
+    private int[] table;
+
+    /**
+     * the encoded names and the quoted
+     * names of the constants by ordinal
+     */
+    private byte[][] names, quotes;
+
     public EnumSpare(
         @NotNull Class<K> klass,
         @Nullable Embed embed,
@@ -56,6 +71,7 @@ public class EnumSpare<K extends Enum<K>> implements Spare<Enum<K>>, Serializabl
             // NOOP
         }
 
+        index();
         space = supplier.register(
             embed, klass, this
         );
@@ -69,11 +85,107 @@ public class EnumSpare<K extends Enum<K>> implements Spare<Enum<K>>, Serializabl
     ) {
         this.klass = klass;
         this.enums = enums;
+        this.index();
         this.space = supplier.register(
             embed, klass, this
         );
     }
 
+    /**
+     * Encodes the names of the constants and
+     * builds the hash table over their bytes
+     */
+    private void index() {
+        K[] es = enums;
+        if (es == null) {
+            return;
+        }
+
+        int size = es.length;
+        int cap = 2;
+        while (cap < size * 2) {
+            cap <<= 1;
+        }
+
+        int[] tab = new int[cap];
+        byte[][] ns = new byte[size][];
+        byte[][] qs = new byte[size][];
+
+        for (int i = 0; i < size; i++) {
+            byte[] name = es[i].name()
+                .getBytes(UTF_8);
+            ns[i] = name;
+
+            byte[] quote = new byte[name.length + 2];
+            quote[0] = '"';
+            System.arraycopy(
+                name, 0, quote, 1, name.length
+            );
+            quote[name.length + 1] = '"';
+            qs[i] = quote;
+
+            int m = cap - 1;
+            int k = hash(name) & m;
+            while (tab[k] != 0) {
+                k = (k + 1) & m;
+            }
+            tab[k] = i + 1;
+        }
+
+        table = tab;
+        names = ns;
+        quotes = qs;
+    }
+
+    /**
+     * Returns the hash of the specified bytes,
+     * which is the same as {@link Chain#hashCode()}
+     */
+    private static int hash(
+        @NotNull byte[] v
+    ) {
+        int l = v.length;
+        if (l == 0) {
+            return 0;
+        }
+
+        int h = v[0];
+        for (int i = 1; i < l; i++) {
+            h = 31 * h + v[i];
+        }
+        return h;
+    }
+
+    /**
+     * Returns the constant whose name is the same as the bytes of
+     * the specified {@link Chain}, or {@code null} if not found
+     */
+    @Nullable
+    private K lookup(
+        @NotNull Chain c
+    ) {
+        int[] tab = table;
+        if (tab == null) {
+            return null;
+        }
+
+        int m = tab.length - 1;
+        int k = c.hashCode() & m;
+
+        while (true) {
+            int i = tab[k];
+            if (i == 0) {
+                return null;
+            }
+
+            byte[] name = names[--i];
+            if (c.is(name)) {
+                return enums[i];
+            }
+            k = (k + 1) & m;
+        }
+    }
+
     @Override
     public CharSequence getSpace() {
         return space;
@@ -158,11 +270,7 @@ public class EnumSpare<K extends Enum<K>> implements Spare<Enum<K>>, Serializabl
                 }
             }
 
-            for (K em : enums) {
-                if (alias.is(em.name())) {
-                    return em;
-                }
-            }
+            return lookup(alias);
         }
         return null;
     }
@@ -181,11 +289,7 @@ public class EnumSpare<K extends Enum<K>> implements Spare<Enum<K>>, Serializabl
                 }
             }
 
-            for (K em : enums) {
-                if (value.is(em.name())) {
-                    return em;
-                }
-            }
+            return lookup(value);
         }
         return null;
     }
@@ -200,6 +304,18 @@ public class EnumSpare<K extends Enum<K>> implements Spare<Enum<K>>, Serializabl
             flow.addInt(
                 e.ordinal()
             );
+            return;
+        }
+
+        int i = e.ordinal();
+        byte[][] ns = names;
+        if (ns != null && i < ns.length &&
+            enums[i] == e) {
+            if (flow.getJob() != Job.JSON) {
+                flow.addBytes(ns[i]);
+            } else {
+                flow.addBytes(quotes[i]);
+            }
         } else {
             if (flow.getJob() != Job.JSON) {
                 flow.emit(e.name());
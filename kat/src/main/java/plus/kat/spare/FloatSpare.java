@@ -71,18 +71,45 @@ public class FloatSpare extends NumberSpare<Float> {
         return value.toFloat();
     }
 
+    /**
+     * Reads the {@code float} value of the specified {@link Value} without boxing
+     *
+     * @since 0.0.3
+     */
+    public float readFloat(
+        @NotNull Flag flag,
+        @NotNull Value value
+    ) {
+        return value.toFloat();
+    }
+
     @Override
     public void write(
         @NotNull Flow flow,
         @NotNull Object value
+    ) throws IOCrash {
+        writeFloat(
+            flow, (float) value
+        );
+    }
+
+    /**
+     * Writes the specified {@code float} value without boxing
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public void writeFloat(
+        @NotNull Flow flow,
+        float value
     ) throws IOCrash {
         if (flow.isFlag(Flag.FLOAT_AS_BITMAP)) {
             flow.addFloat(
-                (float) value, true
+                value, true
             );
         } else {
             flow.addFloat(
-                (float) value
+                value
             );
         }
     }
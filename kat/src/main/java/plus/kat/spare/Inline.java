@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.spare;
+
+import plus.kat.anno.NotNull;
+import plus.kat.anno.Nullable;
+
+import plus.kat.*;
+import plus.kat.crash.*;
+import plus.kat.entity.*;
+
+/**
+ * A monomorphic inline cache of the element {@link Coder}, it remembers
+ * the coder of the last class written, so a homogeneous collection
+ * resolves the coder of its elements only once
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+final class Inline {
+
+    private Class<?> klass;
+    private Coder<?> coder;
+
+    private final Chan chan;
+    private final Supplier supplier;
+
+    /**
+     * @param chan the specified chan
+     */
+    Inline(
+        @NotNull Chan chan
+    ) {
+        this.chan = chan;
+        this.supplier = chan.getSupplier();
+    }
+
+    /**
+     * Serializes the specified {@code alias} and {@code value}
+     * with the cached coder if its class is the same as the last one
+     *
+     * @return {@code true} if successful
+     * @throws IOCrash If an I/O error occurs
+     */
+    boolean set(
+        @Nullable CharSequence alias,
+        @Nullable Object value
+    ) throws IOCrash {
+        if (value == null) {
+            return chan.set(
+                alias, (Object) null
+            );
+        }
+
+        Class<?> k = value.getClass();
+        if (k != klass) {
+            klass = k;
+            coder = supplier.lookup(k);
+        }
+
+        if (coder == null) {
+            return chan.set(
+                alias, value
+            );
+        }
+
+        return chan.set(
+            alias, coder, value
+        );
+    }
+}
@@ -25,7 +25,10 @@ import plus.kat.crash.*;
 
 import java.io.Serializable;
 import java.time.Instant;
-import java.time.temporal.TemporalAccessor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
 
 import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 
@@ -81,6 +84,10 @@ public class InstantSpare extends TemporalSpare<Instant> implements Serializable
             if (d.isEmpty()) {
                 return null;
             }
+            Instant i = resolve(d);
+            if (i != null) {
+                return i;
+            }
             try {
                 return Instant.from(
                     formatter.parse(d)
@@ -116,6 +123,11 @@ public class InstantSpare extends TemporalSpare<Instant> implements Serializable
             }
         }
 
+        Instant i = resolve(value);
+        if (i != null) {
+            return i;
+        }
+
         return Instant.from(
             formatter.parse(
                 value.toString()
@@ -134,16 +146,64 @@ public class InstantSpare extends TemporalSpare<Instant> implements Serializable
             );
         } else {
             if (flow.getJob() != Job.JSON) {
-                formatter.formatTo(
-                    (TemporalAccessor) value, flow
-                );
+                super.write(flow, value);
             } else {
                 flow.addByte((byte) '"');
-                formatter.formatTo(
-                    (TemporalAccessor) value, flow
-                );
+                super.write(flow, value);
                 flow.addByte((byte) '"');
             }
         }
     }
+
+    @Override
+    protected Instant resolve(
+        @NotNull CharSequence text
+    ) {
+        if (formatter != ISO_INSTANT) {
+            return null;
+        }
+
+        int len = text.length();
+        if (len < 20 ||
+            text.charAt(10) != 'T' ||
+            text.charAt(len - 1) != 'Z') {
+            return null;
+        }
+
+        LocalDate date = date(text, 0);
+        if (date == null) {
+            return null;
+        }
+
+        LocalTime time = time(text, 11, len - 1);
+        if (time == null) {
+            return null;
+        }
+
+        return Instant.ofEpochSecond(
+            date.toEpochDay() * 86400 + time.toSecondOfDay(), time.getNano()
+        );
+    }
+
+    @Override
+    protected boolean compose(
+        @NotNull Flow flow,
+        @NotNull Instant value
+    ) throws IOCrash {
+        if (formatter != ISO_INSTANT) {
+            return false;
+        }
+
+        LocalDateTime time = LocalDateTime.ofEpochSecond(
+            value.getEpochSecond(), value.getNano(), ZoneOffset.UTC
+        );
+        if (!date(flow, time.toLocalDate())) {
+            return false;
+        }
+
+        flow.addByte((byte) 'T');
+        time(flow, time.toLocalTime(), true);
+        flow.addByte((byte) 'Z');
+        return true;
+    }
 }
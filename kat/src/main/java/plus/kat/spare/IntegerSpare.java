@@ -100,13 +100,40 @@ public class IntegerSpare extends NumberSpare<Integer> {
         return value.toInt();
     }
 
+    /**
+     * Reads the {@code int} value of the specified {@link Value} without boxing
+     *
+     * @since 0.0.3
+     */
+    public int readInt(
+        @NotNull Flag flag,
+        @NotNull Value value
+    ) {
+        return value.toInt();
+    }
+
     @Override
     public void write(
         @NotNull Flow flow,
         @NotNull Object value
+    ) throws IOCrash {
+        writeInt(
+            flow, (int) value
+        );
+    }
+
+    /**
+     * Writes the specified {@code int} value without boxing
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public void writeInt(
+        @NotNull Flow flow,
+        int value
     ) throws IOCrash {
         flow.addInt(
-            (int) value
+            value
         );
     }
 }
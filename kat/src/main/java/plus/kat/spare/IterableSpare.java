@@ -86,8 +86,16 @@ public class IterableSpare implements Spare<Iterable> {
         Iterable<?> val =
             (Iterable<?>) value;
 
+        if (val instanceof Collection &&
+            Splitter.write(chan, (Collection<?>) val)) {
+            return;
+        }
+
+        Inline inline =
+            new Inline(chan);
+
         for (Object v : val) {
-            chan.set(
+            inline.set(
                 null, v
             );
         }
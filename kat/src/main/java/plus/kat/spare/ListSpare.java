@@ -87,13 +87,28 @@ public class ListSpare implements Spare<List> {
         List<?> val =
             (List<?>) value;
 
-        int i = 0,
-            l = val.size();
+        if (Splitter.write(chan, val)) {
+            return;
+        }
 
-        while (i < l) {
-            chan.set(
-                null, val.get(i++)
-            );
+        Inline inline =
+            new Inline(chan);
+
+        if (val instanceof RandomAccess) {
+            int i = 0,
+                l = val.size();
+
+            while (i < l) {
+                inline.set(
+                    null, val.get(i++)
+                );
+            }
+        } else {
+            for (Object v : val) {
+                inline.set(
+                    null, v
+                );
+            }
         }
     }
 
@@ -18,6 +18,7 @@ package plus.kat.spare;
 import plus.kat.anno.Format;
 import plus.kat.anno.NotNull;
 
+import plus.kat.*;
 import plus.kat.crash.*;
 
 import java.time.LocalDate;
@@ -50,6 +51,25 @@ public class LocalDateSpare extends TemporalSpare<LocalDate> {
         return "LocalDate";
     }
 
+    @Override
+    protected LocalDate resolve(
+        @NotNull CharSequence text
+    ) {
+        if (formatter == ISO_LOCAL_DATE &&
+            text.length() == 10) {
+            return date(text, 0);
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean compose(
+        @NotNull Flow flow,
+        @NotNull LocalDate value
+    ) throws IOCrash {
+        return formatter == ISO_LOCAL_DATE && date(flow, value);
+    }
+
     @Override
     public LocalDate cast(
         @NotNull String value
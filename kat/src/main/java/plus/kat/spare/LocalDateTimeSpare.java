@@ -18,9 +18,12 @@ package plus.kat.spare;
 import plus.kat.anno.Format;
 import plus.kat.anno.NotNull;
 
+import plus.kat.*;
 import plus.kat.crash.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
@@ -50,6 +53,46 @@ public class LocalDateTimeSpare extends TemporalSpare<LocalDateTime> {
         return "LocalDateTime";
     }
 
+    @Override
+    protected LocalDateTime resolve(
+        @NotNull CharSequence text
+    ) {
+        if (formatter != ISO_LOCAL_DATE_TIME) {
+            return null;
+        }
+
+        int len = text.length();
+        if (len < 16 || text.charAt(10) != 'T') {
+            return null;
+        }
+
+        LocalDate date = date(text, 0);
+        if (date == null) {
+            return null;
+        }
+
+        LocalTime time = time(text, 11, len);
+        if (time == null) {
+            return null;
+        }
+
+        return LocalDateTime.of(date, time);
+    }
+
+    @Override
+    protected boolean compose(
+        @NotNull Flow flow,
+        @NotNull LocalDateTime value
+    ) throws IOCrash {
+        if (formatter != ISO_LOCAL_DATE_TIME ||
+            !date(flow, value.toLocalDate())) {
+            return false;
+        }
+        flow.addByte((byte) 'T');
+        time(flow, value.toLocalTime(), false);
+        return true;
+    }
+
     @Override
     public LocalDateTime cast(
         @NotNull String value
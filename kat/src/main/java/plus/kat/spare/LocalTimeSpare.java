@@ -18,6 +18,7 @@ package plus.kat.spare;
 import plus.kat.anno.Format;
 import plus.kat.anno.NotNull;
 
+import plus.kat.*;
 import plus.kat.crash.*;
 
 import java.time.LocalTime;
@@ -50,6 +51,30 @@ public class LocalTimeSpare extends TemporalSpare<LocalTime> {
         return "LocalTime";
     }
 
+    @Override
+    protected LocalTime resolve(
+        @NotNull CharSequence text
+    ) {
+        if (formatter == ISO_LOCAL_TIME) {
+            return time(
+                text, 0, text.length()
+            );
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean compose(
+        @NotNull Flow flow,
+        @NotNull LocalTime value
+    ) throws IOCrash {
+        if (formatter != ISO_LOCAL_TIME) {
+            return false;
+        }
+        time(flow, value, false);
+        return true;
+    }
+
     @Override
     public LocalTime cast(
         @NotNull String value
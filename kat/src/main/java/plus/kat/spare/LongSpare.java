@@ -100,13 +100,40 @@ public class LongSpare extends NumberSpare<Long> {
         return value.toLong();
     }
 
+    /**
+     * Reads the {@code long} value of the specified {@link Value} without boxing
+     *
+     * @since 0.0.3
+     */
+    public long readLong(
+        @NotNull Flag flag,
+        @NotNull Value value
+    ) {
+        return value.toLong();
+    }
+
     @Override
     public void write(
         @NotNull Flow flow,
         @NotNull Object value
+    ) throws IOCrash {
+        writeLong(
+            flow, (long) value
+        );
+    }
+
+    /**
+     * Writes the specified {@code long} value without boxing
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public void writeLong(
+        @NotNull Flow flow,
+        long value
     ) throws IOCrash {
         flow.addLong(
-            (long) value
+            value
         );
     }
 }
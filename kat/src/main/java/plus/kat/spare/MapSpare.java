@@ -27,6 +27,7 @@ import plus.kat.*;
 import plus.kat.chain.*;
 import plus.kat.crash.*;
 import plus.kat.entity.*;
+import plus.kat.kernel.Intern;
 import plus.kat.utils.Casting;
 import plus.kat.utils.Reflect;
 
@@ -83,8 +84,18 @@ public class MapSpare implements Spare<Map> {
         @NotNull Chan chan,
         @NotNull Object value
     ) throws IOCrash {
-        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
-            chan.set(
+        Map<?, ?> val =
+            (Map<?, ?>) value;
+
+        if (Splitter.write(chan, val)) {
+            return;
+        }
+
+        Inline inline =
+            new Inline(chan);
+
+        for (Map.Entry<?, ?> entry : val.entrySet()) {
+            inline.set(
                 entry.getKey().toString(),
                 entry.getValue()
             );
@@ -229,7 +240,7 @@ public class MapSpare implements Spare<Map> {
             if (v != null) {
                 if (k == null) {
                     entity.put(
-                        alias.toString(),
+                        Intern.of(alias),
                         v.read(
                             flag, value
                         )
@@ -250,7 +261,7 @@ public class MapSpare implements Spare<Map> {
 
                 if (spare != null) {
                     entity.put(
-                        alias.toString(),
+                        Intern.of(alias),
                         spare.read(
                             flag, value
                         )
@@ -267,7 +278,7 @@ public class MapSpare implements Spare<Map> {
         ) throws IOCrash {
             if (k == null) {
                 entity.put(
-                    alias.toString(),
+                    Intern.of(alias),
                     child.getResult()
                 );
             } else {
@@ -24,6 +24,7 @@ import plus.kat.entity.*;
 import plus.kat.utils.Reflect;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.util.Map;
 
@@ -36,7 +37,7 @@ import static plus.kat.utils.Reflect.lookup;
 public class RecordSpare<T> extends SuperSpare<T, Target> implements Worker<T> {
 
     private int width;
-    private Constructor<T> ctor;
+    private MethodHandle ctor;
 
     /**
      * @throws RunCrash If an error occurs in the build
@@ -71,13 +72,14 @@ public class RecordSpare<T> extends SuperSpare<T, Target> implements Worker<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T apply(
         @NotNull Alias alias,
         @NotNull Object... params
     ) throws Crash {
         try {
-            return ctor.newInstance(params);
-        } catch (Exception e) {
+            return (T) ctor.invokeExact(params);
+        } catch (Throwable e) {
             throw new Crash(e);
         }
     }
@@ -246,8 +248,18 @@ public class RecordSpare<T> extends SuperSpare<T, Target> implements Worker<T> {
         }
 
         if (width == b.getParameterCount()) {
-            ctor = b;
             b.setAccessible(true);
+            try {
+                ctor = lookup.unreflectConstructor(b).asSpreader(
+                    Object[].class, width
+                ).asType(
+                    MethodType.methodType(
+                        Object.class, Object[].class
+                    )
+                );
+            } catch (Exception e) {
+                throw new RunCrash(e);
+            }
         } else {
             throw new RunCrash(
                 "Unexpectedly, the number of actual and formal parameters differ"
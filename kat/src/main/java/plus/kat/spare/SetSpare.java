@@ -84,8 +84,18 @@ public class SetSpare implements Spare<Set> {
         @NotNull Chan chan,
         @NotNull Object value
     ) throws IOCrash {
-        for (Object entry : (Set<?>) value) {
-            chan.set(
+        Set<?> val =
+            (Set<?>) value;
+
+        if (Splitter.write(chan, val)) {
+            return;
+        }
+
+        Inline inline =
+            new Inline(chan);
+
+        for (Object entry : val) {
+            inline.set(
                 null, entry
             );
         }
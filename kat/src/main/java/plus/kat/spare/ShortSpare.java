@@ -107,13 +107,40 @@ public class ShortSpare extends NumberSpare<Short> {
         return value.toShort();
     }
 
+    /**
+     * Reads the {@code short} value of the specified {@link Value} without boxing
+     *
+     * @since 0.0.3
+     */
+    public short readShort(
+        @NotNull Flag flag,
+        @NotNull Value value
+    ) {
+        return value.toShort();
+    }
+
     @Override
     public void write(
         @NotNull Flow flow,
         @NotNull Object value
+    ) throws IOCrash {
+        writeShort(
+            flow, (short) value
+        );
+    }
+
+    /**
+     * Writes the specified {@code short} value without boxing
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    public void writeShort(
+        @NotNull Flow flow,
+        short value
     ) throws IOCrash {
         flow.addShort(
-            (short) value
+            value
         );
     }
 }
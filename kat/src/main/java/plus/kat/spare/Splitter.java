@@ -0,0 +1,255 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.spare;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.*;
+import plus.kat.chain.*;
+import plus.kat.crash.*;
+import plus.kat.utils.Config;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Writes the elements of a large collection concurrently when {@link Flag#PARALLEL} is used,
+ * each slice is written into a forked {@link Chan} and then joined in order
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+public final class Splitter {
+
+    static final int THRESHOLD;
+
+    static {
+        THRESHOLD = Config.get(
+            "kat.splitter.threshold", 8192
+        );
+    }
+
+    private Splitter() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Writes the elements of the specified {@link Collection} in parallel if possible
+     *
+     * @param chan  the specified chan
+     * @param value the specified collection
+     * @return {@code false} if the {@code value} should be written sequentially
+     * @throws IOCrash If an I/O error occurs
+     */
+    public static boolean write(
+        @NotNull Chan chan,
+        @NotNull Collection<?> value
+    ) throws IOCrash {
+        if (value.size() < THRESHOLD ||
+            !chan.isFlag(Flag.PARALLEL)) {
+            return false;
+        }
+
+        return write(
+            chan, value.spliterator(), (c, e) -> c.set(null, e), ForkJoinPool.commonPool()
+        );
+    }
+
+    /**
+     * Writes the entries of the specified {@link Map} in parallel if possible
+     *
+     * @param chan  the specified chan
+     * @param value the specified map
+     * @return {@code false} if the {@code value} should be written sequentially
+     * @throws IOCrash If an I/O error occurs
+     */
+    public static boolean write(
+        @NotNull Chan chan,
+        @NotNull Map<?, ?> value
+    ) throws IOCrash {
+        if (value.size() < THRESHOLD ||
+            !chan.isFlag(Flag.PARALLEL)) {
+            return false;
+        }
+
+        return write(
+            chan, value.entrySet().spliterator(), (c, e) -> c.set(
+                e.getKey().toString(), e.getValue()
+            ), ForkJoinPool.commonPool()
+        );
+    }
+
+    /**
+     * Splits the specified {@link Spliterator} into slices, writes the first
+     * slice into the {@code chan} and the others into forked chans concurrently
+     *
+     * @return {@code false} if the {@code spliterator} is too small or cannot be split
+     * @throws IOCrash If an I/O error occurs
+     */
+    static <E> boolean write(
+        @NotNull Chan chan,
+        @NotNull Spliterator<E> spliterator,
+        @NotNull Writer<? super E> writer,
+        @NotNull ForkJoinPool pool
+    ) throws IOCrash {
+        int parallelism = pool.getParallelism();
+        long size = spliterator.getExactSizeIfKnown();
+        if (size < THRESHOLD || parallelism < 2) {
+            return false;
+        }
+
+        long grain = Math.max(
+            THRESHOLD >> 2, size / (parallelism << 2)
+        );
+
+        List<Spliterator<E>> slices = new ArrayList<>();
+        split(
+            spliterator, grain, slices
+        );
+
+        int n = slices.size();
+        Chan[] forks = new Chan[n];
+        ForkJoinTask<?>[] tasks = new ForkJoinTask[n];
+
+        try {
+            for (int i = 1; i < n; i++) {
+                Chan fork = forks[i] = chan.fork();
+                Spliterator<E> slice = slices.get(i);
+                tasks[i] = pool.submit(() -> {
+                    drain(fork, slice, writer);
+                    return null;
+                });
+            }
+
+            drain(
+                chan, slices.get(0), writer
+            );
+
+            Paper flow = chan.getFlow();
+            for (int i = 1; i < n; i++) {
+                ForkJoinTask<?> task = tasks[i];
+                task.quietlyJoin();
+
+                Throwable e = task.getException();
+                if (e != null) {
+                    if (e instanceof IOCrash) {
+                        throw (IOCrash) e;
+                    }
+                    // submit(Callable) wraps the checked crash of
+                    // a slice, and the pool may wrap it once more
+                    for (Throwable c = e.getCause(); c != null; c = c.getCause()) {
+                        if (c instanceof IOCrash) {
+                            throw (IOCrash) c;
+                        }
+                    }
+                    throw new IOCrash(e);
+                }
+
+                flow.join(
+                    forks[i].getFlow()
+                );
+            }
+        } finally {
+            for (int i = 1; i < n; i++) {
+                ForkJoinTask<?> task = tasks[i];
+                if (task != null) {
+                    task.quietlyJoin();
+                }
+                Chan fork = forks[i];
+                if (fork != null) {
+                    fork.closeFlow();
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Splits the specified {@link Spliterator} in encounter order
+     */
+    static <E> void split(
+        @NotNull Spliterator<E> spliterator,
+        long grain,
+        @NotNull List<Spliterator<E>> slices
+    ) {
+        if (spliterator.estimateSize() > grain) {
+            Spliterator<E> prefix =
+                spliterator.trySplit();
+            if (prefix != null) {
+                split(
+                    prefix, grain, slices
+                );
+                split(
+                    spliterator, grain, slices
+                );
+                return;
+            }
+        }
+        slices.add(spliterator);
+    }
+
+    /**
+     * Writes the remaining elements of the specified {@link Spliterator}
+     *
+     * @throws IOCrash If an I/O error occurs
+     */
+    static <E> void drain(
+        @NotNull Chan chan,
+        @NotNull Spliterator<E> spliterator,
+        @NotNull Writer<? super E> writer
+    ) throws IOCrash {
+        Cursor<E> cursor = new Cursor<>();
+        while (spliterator.tryAdvance(cursor)) {
+            writer.write(
+                chan, cursor.value
+            );
+        }
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    interface Writer<E> {
+        /**
+         * Writes the specified element
+         *
+         * @throws IOCrash If an I/O error occurs
+         */
+        void write(
+            @NotNull Chan chan, E value
+        ) throws IOCrash;
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    static final class Cursor<E> implements Consumer<E> {
+
+        E value;
+
+        @Override
+        public void accept(
+            E value
+        ) {
+            this.value = value;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import plus.kat.*;
 import plus.kat.chain.*;
 import plus.kat.crash.*;
 import plus.kat.entity.*;
+import plus.kat.kernel.Intern;
 
 import java.lang.reflect.Type;
 
@@ -84,7 +85,7 @@ public class StringSpare implements Spare<String> {
         @NotNull Flag flag,
         @NotNull Alias alias
     ) {
-        return alias.toString();
+        return Intern.of(alias);
     }
 
     @NotNull
@@ -93,7 +94,7 @@ public class StringSpare implements Spare<String> {
         @NotNull Flag flag,
         @NotNull Value value
     ) {
-        return value.toString();
+        return Intern.of(value);
     }
 
     @Override
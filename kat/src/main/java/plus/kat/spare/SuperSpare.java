@@ -174,6 +174,13 @@ public abstract class SuperSpare<T, E> extends KatMap<Object, E> implements Spar
     ) throws IOCrash {
         Node<T> node = head;
         while (node != null) {
+            if (node.write(
+                chan, node.key, value
+            )) {
+                node = node.next;
+                continue;
+            }
+
             Object val = node.onApply(value);
             if (val == null) {
                 if (node.nullable) {
@@ -237,7 +244,13 @@ public abstract class SuperSpare<T, E> extends KatMap<Object, E> implements Spar
         @NotNull CharSequence key,
         @NotNull Node<T> getter
     ) {
-        getter.key = key;
+        if (key instanceof String) {
+            getter.key = new Label(
+                (String) key
+            );
+        } else {
+            getter.key = key;
+        }
         if (tail == null) {
             head = getter;
             tail = getter;
@@ -342,6 +355,24 @@ public abstract class SuperSpare<T, E> extends KatMap<Object, E> implements Spar
             return coder;
         }
 
+        /**
+         * Writes the primitive value of the specified entity without boxing
+         *
+         * @param chan  the specified chan
+         * @param alias the specified alias
+         * @param it    the specified entity
+         * @return {@code false} if this node cannot write the value without boxing
+         * @throws IOCrash If an I/O error occurs
+         * @since 0.0.3
+         */
+        public boolean write(
+            @NotNull Chan chan,
+            @NotNull CharSequence alias,
+            @NotNull Object it
+        ) throws IOCrash {
+            return false;
+        }
+
         /**
          * Returns a clone of this {@link Node}
          */
@@ -25,6 +25,9 @@ import plus.kat.crash.*;
 import plus.kat.entity.*;
 
 import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
@@ -122,19 +125,53 @@ public abstract class TemporalSpare<K extends TemporalAccessor> implements Spare
         if (value.isEmpty()) {
             return null;
         }
+        K k = resolve(value);
+        if (k != null) {
+            return k;
+        }
         return cast(
             value.toString()
         );
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void write(
         @NotNull Flow flow,
         @NotNull Object value
     ) throws IOCrash {
-        formatter.formatTo(
-            (TemporalAccessor) value, flow
-        );
+        if (!compose(flow, (K) value)) {
+            formatter.formatTo(
+                (TemporalAccessor) value, flow
+            );
+        }
+    }
+
+    /**
+     * Parses the text of the default ISO-8601 formatter directly,
+     * or returns null to let the {@link DateTimeFormatter} handle it
+     *
+     * @since 0.0.3
+     */
+    @Nullable
+    protected K resolve(
+        @NotNull CharSequence text
+    ) {
+        return null;
+    }
+
+    /**
+     * Writes the value in the default ISO-8601 format directly,
+     * or returns false to let the {@link DateTimeFormatter} handle it
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    protected boolean compose(
+        @NotNull Flow flow,
+        @NotNull K value
+    ) throws IOCrash {
+        return false;
     }
 
     @Nullable
@@ -164,6 +201,10 @@ public abstract class TemporalSpare<K extends TemporalAccessor> implements Spare
             if (d.isEmpty()) {
                 return null;
             }
+            K k = resolve(d);
+            if (k != null) {
+                return k;
+            }
             try {
                 return cast(d);
             } catch (Exception e) {
@@ -180,4 +221,176 @@ public abstract class TemporalSpare<K extends TemporalAccessor> implements Spare
     ) {
         return null;
     }
+
+    /**
+     * Returns the value of the {@code n} digits at {@code i}, or -1 if any is not a digit
+     *
+     * @since 0.0.3
+     */
+    protected static int number(
+        @NotNull CharSequence t, int i, int n
+    ) {
+        int v = 0;
+        for (n += i; i < n; i++) {
+            int d = t.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            v = v * 10 + d;
+        }
+        return v;
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd} at {@code i}, or returns null
+     *
+     * @since 0.0.3
+     */
+    @Nullable
+    protected static LocalDate date(
+        @NotNull CharSequence t, int i
+    ) {
+        if (t.charAt(i + 4) != '-' ||
+            t.charAt(i + 7) != '-') {
+            return null;
+        }
+
+        int y = number(t, i, 4),
+            m = number(t, i + 5, 2),
+            d = number(t, i + 8, 2);
+        if (y < 0 || m < 1 || m > 12 || d < 1) {
+            return null;
+        }
+
+        if (d > 28 && d > (m == 2 ? (Year.isLeap(y) ? 29 : 28)
+            : m == 4 || m == 6 || m == 9 || m == 11 ? 30 : 31)) {
+            return null;
+        }
+
+        return LocalDate.of(y, m, d);
+    }
+
+    /**
+     * Parses {@code HH:mm[:ss[.SSSSSSSSS]]} between {@code i} and {@code e}, or returns null
+     *
+     * @since 0.0.3
+     */
+    @Nullable
+    protected static LocalTime time(
+        @NotNull CharSequence t, int i, int e
+    ) {
+        int l = e - i;
+        if (l < 5 || l == 6 || l == 7 ||
+            l == 9 || l > 18 || t.charAt(i + 2) != ':') {
+            return null;
+        }
+
+        int h = number(t, i, 2),
+            m = number(t, i + 3, 2);
+        if (h < 0 || h > 23 || m < 0 || m > 59) {
+            return null;
+        }
+
+        int s = 0, n = 0;
+        if (l > 5) {
+            if (t.charAt(i + 5) != ':') {
+                return null;
+            }
+            s = number(t, i + 6, 2);
+            if (s < 0 || s > 59) {
+                return null;
+            }
+            if (l > 8) {
+                if (t.charAt(i + 8) != '.') {
+                    return null;
+                }
+                int k = l - 9;
+                n = number(t, i + 9, k);
+                if (n < 0) {
+                    return null;
+                }
+                while (k++ < 9) n *= 10;
+            }
+        }
+
+        return LocalTime.of(h, m, s, n);
+    }
+
+    /**
+     * Writes {@code yyyy-MM-dd}, or returns false if the year is out of four digits
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    protected static boolean date(
+        @NotNull Flow flow,
+        @NotNull LocalDate date
+    ) throws IOCrash {
+        int y = date.getYear();
+        if (y < 0 || y > 9999) {
+            return false;
+        }
+
+        digits(flow, y, 4);
+        flow.addByte((byte) '-');
+        digits(flow, date.getMonthValue(), 2);
+        flow.addByte((byte) '-');
+        digits(flow, date.getDayOfMonth(), 2);
+        return true;
+    }
+
+    /**
+     * Writes {@code HH:mm:ss} and the fraction of second, trimmed to
+     * the significant digits, or to groups of three if {@code grouped}
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    protected static void time(
+        @NotNull Flow flow,
+        @NotNull LocalTime time,
+        boolean grouped
+    ) throws IOCrash {
+        digits(flow, time.getHour(), 2);
+        flow.addByte((byte) ':');
+        digits(flow, time.getMinute(), 2);
+        flow.addByte((byte) ':');
+        digits(flow, time.getSecond(), 2);
+
+        int n = time.getNano();
+        if (n != 0) {
+            int w = 9;
+            if (grouped) {
+                while (n % 1000 == 0) {
+                    n /= 1000;
+                    w -= 3;
+                }
+            } else {
+                while (n % 10 == 0) {
+                    n /= 10;
+                    w--;
+                }
+            }
+            flow.addByte((byte) '.');
+            digits(flow, n, w);
+        }
+    }
+
+    /**
+     * Writes the {@code w} least significant digits of {@code v} zero-padded
+     *
+     * @throws IOCrash If an I/O error occurs
+     * @since 0.0.3
+     */
+    protected static void digits(
+        @NotNull Flow flow, int v, int w
+    ) throws IOCrash {
+        int p = 1;
+        while (--w > 0) p *= 10;
+        for (; p > 0; p /= 10) {
+            flow.addByte(
+                (byte) ('0' + v / p % 10)
+            );
+        }
+    }
 }
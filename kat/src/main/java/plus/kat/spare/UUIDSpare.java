@@ -139,36 +139,9 @@ public class UUIDSpare implements Spare<UUID> {
         @NotNull Object value
     ) throws IOCrash {
         UUID u = (UUID) value;
-
-        long most = u.getMostSignificantBits();
-        long least = u.getLeastSignificantBits();
-
-        flow.addLong(
-            (most >> 32) & 0xFFFFFFFFL, 4, 8
-        );
-        flow.addByte(
-            (byte) '-'
-        );
-        flow.addLong(
-            (most >> 16) & 0xFFFFL, 4, 4
-        );
-        flow.addByte(
-            (byte) '-'
-        );
-        flow.addLong(
-            most & 0xFFFFL, 4, 4
-        );
-        flow.addByte(
-            (byte) '-'
-        );
-        flow.addLong(
-            (least >> 48) & 0xFFFFL, 4, 4
-        );
-        flow.addByte(
-            (byte) '-'
-        );
-        flow.addLong(
-            least & 0xFFFFFFFFFFFFL, 4, 12
+        flow.addUUID(
+            u.getMostSignificantBits(),
+            u.getLeastSignificantBits()
         );
     }
 
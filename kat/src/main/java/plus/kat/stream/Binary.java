@@ -60,6 +60,27 @@ public final class Binary {
         return UPPER[i];
     }
 
+    /**
+     * Writes the lowest {@code length} hex digits of the specified
+     * long value into the bytes, starting at the specified offset
+     *
+     * @param it     the specified bytes
+     * @param offset the specified offset
+     * @param num    the specified long value
+     * @param length the number of hex digits
+     * @since 0.0.3
+     */
+    public static void lower(
+        @NotNull byte[] it,
+        int offset,
+        long num,
+        int length
+    ) {
+        for (int i = offset + length; i > offset; num >>>= 4) {
+            it[--i] = LOWER[(int) num & 0xF];
+        }
+    }
+
     /**
      * @param d specify the {@code byte[]} to be encoded
      */
@@ -161,7 +182,7 @@ public final class Binary {
             }
         }
         throw new UnexpectedCrash(
-            "Unexpectedly, " + (char) b + " is not a hexadecimal number"
+            "Unexpectedly, %s is not a hexadecimal number", (char) b
         );
     }
 
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.stream;
+
+import plus.kat.anno.NotNull;
+import plus.kat.anno.Nullable;
+
+import plus.kat.crash.*;
+import plus.kat.utils.Config;
+import plus.kat.utils.Flight;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static plus.kat.stream.ChannelReader.Bucket.INS;
+
+/**
+ * Reads a blocking {@link ReadableByteChannel} through a large direct {@link ByteBuffer},
+ * which is borrowed from {@link Bucket} and returned to it on {@link #close()}
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+public class ChannelReader implements Reader {
+
+    static final ByteBuffer
+        EMPTY = ByteBuffer.allocate(0);
+
+    private int offset;
+    private ByteBuffer cache;
+    private ReadableByteChannel value;
+
+    /**
+     * @throws NullPointerException     If the specified {@code data} is null
+     * @throws IllegalArgumentException If the specified {@code data} is non-blocking
+     */
+    public ChannelReader(
+        @NotNull ReadableByteChannel data
+    ) {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+
+        if (data instanceof SelectableChannel &&
+            !((SelectableChannel) data).isBlocking()) {
+            throw new IllegalArgumentException(
+                "Unexpectedly, the specified channel is non-blocking"
+            );
+        }
+
+        this.value = data;
+        this.cache = INS.alloc();
+        this.offset = cache.capacity();
+        this.cache.limit(0);
+    }
+
+    @Override
+    public boolean also() throws IOCrash {
+        if (cache.hasRemaining()) {
+            return true;
+        }
+
+        return fill();
+    }
+
+    @Override
+    public byte read() {
+        return cache.get();
+    }
+
+    @Override
+    public byte next() throws IOCrash {
+        if (cache.hasRemaining()) {
+            return cache.get();
+        }
+
+        if (fill()) {
+            return cache.get();
+        }
+
+        throw new UnexpectedCrash(
+            "Unexpectedly, no readable byte"
+        );
+    }
+
+    /**
+     * Reads the next bytes of the channel into the buffer
+     *
+     * @throws IOCrash If an I/O error occurs
+     */
+    private boolean fill() throws IOCrash {
+        if (offset > 0) {
+            Object flight = Flight.begin(Flight.REFILL);
+            try {
+                cache.clear();
+                offset = value.read(cache);
+
+                // a blocking channel reads at least
+                // one byte unless it reaches the end
+                if (offset == 0) {
+                    throw new UnexpectedCrash(
+                        "Unexpectedly, the channel read no bytes, it may be non-blocking"
+                    );
+                }
+
+                cache.flip();
+                return offset > 0;
+            } catch (IOCrash e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOCrash(e);
+            } finally {
+                Flight.commit(
+                    flight, this, null, offset
+                );
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void close() {
+        try {
+            INS.revert(
+                cache
+            );
+            value.close();
+        } catch (Exception e) {
+            // NOOP
+        } finally {
+            offset = 0;
+            cache = EMPTY;
+            value = null;
+        }
+    }
+
+    /**
+     * The pool of direct buffers, since allocating and
+     * freeing a direct buffer is much slower than a heap one
+     *
+     * @author kraity
+     * @since 0.0.3
+     */
+    public static class Bucket extends AtomicReferenceArray<ByteBuffer> {
+
+        static final int SIZE, SCALE;
+
+        static {
+            SIZE = Config.get(
+                "kat.channel.size", 4
+            );
+            SCALE = Config.get(
+                "kat.channel.scale", 1024 * 64
+            );
+        }
+
+        static final Bucket
+            INS = new Bucket();
+
+        private Bucket() {
+            super(SIZE);
+        }
+
+        @NotNull
+        public ByteBuffer alloc() {
+            Thread th = Thread.currentThread();
+            int tr = th.hashCode() & 0xFFFFFF;
+
+            ByteBuffer it = getAndSet(
+                tr % SIZE, null
+            );
+
+            if (it != null) {
+                it.clear();
+                return it;
+            }
+
+            return ByteBuffer.allocateDirect(SCALE);
+        }
+
+        public void revert(
+            @Nullable ByteBuffer it
+        ) {
+            if (it != null && it.isDirect() &&
+                it.capacity() >= SCALE) {
+                Thread th = Thread.currentThread();
+                int tr = th.hashCode() & 0xFFFFFF;
+
+                this.set(
+                    tr % SIZE, it
+                );
+            }
+        }
+    }
+}
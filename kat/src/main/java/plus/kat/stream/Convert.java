@@ -22,6 +22,39 @@ import plus.kat.anno.NotNull;
  * @since 0.0.1
  */
 public interface Convert {
+    /**
+     * Parses the eight bytes from the specified index as decimal digits
+     * in a single word, and returns -1 if any of them is not a digit
+     *
+     * @param it the specified bytes, with at least eight bytes from {@code i}
+     * @param i  the specified index
+     * @since 0.0.3
+     */
+    static int toEight(
+        @NotNull byte[] it, int i
+    ) {
+        long v = (it[i] & 0xFFL)
+            | (it[i + 1] & 0xFFL) << 8
+            | (it[i + 2] & 0xFFL) << 16
+            | (it[i + 3] & 0xFFL) << 24
+            | (it[i + 4] & 0xFFL) << 32
+            | (it[i + 5] & 0xFFL) << 40
+            | (it[i + 6] & 0xFFL) << 48
+            | (it[i + 7] & 0xFFL) << 56;
+
+        // each byte must be 0x30 to 0x39
+        if (((v & 0xF0F0F0F0F0F0F0F0L) |
+            (((v + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4))
+            != 0x3333333333333333L) {
+            return -1;
+        }
+
+        v -= 0x3030303030303030L;
+        v = v * 10 + (v >>> 8);
+        return (int) (((v & 0x000000FF000000FFL) * (100 + (1000000L << 32))
+            + ((v >>> 16) & 0x000000FF000000FFL) * (1 + (10000L << 32))) >>> 32);
+    }
+
     /**
      * Parses the {@code UTF8} {@code byte[]} as a {@code char}
      */
@@ -114,6 +147,14 @@ public interface Convert {
         int num = 0;
         int mul = lim / rad;
 
+        if (rad == 10 && len - bit >= 8) {
+            int eight = toEight(it, bit);
+            if (eight != -1) {
+                bit += 8;
+                num = -eight;
+            }
+        }
+
         while (bit < len) {
             int dig = it[bit++];
             if (dig < 58) {
@@ -291,6 +332,18 @@ public interface Convert {
         long num = 0L;
         long mul = lim / rad;
 
+        if (rad == 10L) {
+            while (len - bit >= 8 &&
+                num > -92233720368L) {
+                int eight = toEight(it, bit);
+                if (eight == -1) {
+                    break;
+                }
+                bit += 8;
+                num = num * 100000000L - eight;
+            }
+        }
+
         while (bit < len) {
             long dig = it[bit++];
             if (dig < 58L) {
@@ -18,6 +18,7 @@ package plus.kat.stream;
 import plus.kat.anno.NotNull;
 
 import plus.kat.crash.*;
+import plus.kat.utils.Flight;
 
 import java.io.InputStream;
 
@@ -54,20 +55,7 @@ public class InputStreamReader implements Reader {
             return true;
         }
 
-        if (offset > 0) try {
-            offset = value.read(
-                cache, 0, cache.length
-            );
-
-            if (offset > 0) {
-                index = 0;
-                return true;
-            }
-        } catch (Exception e) {
-            throw new IOCrash(e);
-        }
-
-        return false;
+        return fill();
     }
 
     @Override
@@ -81,17 +69,8 @@ public class InputStreamReader implements Reader {
             return cache[index++];
         }
 
-        if (offset > 0) try {
-            offset = value.read(
-                cache, 0, cache.length
-            );
-
-            if (offset > 0) {
-                index = 0;
-                return cache[index++];
-            }
-        } catch (Exception e) {
-            throw new IOCrash(e);
+        if (fill()) {
+            return cache[index++];
         }
 
         throw new UnexpectedCrash(
@@ -99,6 +78,35 @@ public class InputStreamReader implements Reader {
         );
     }
 
+    /**
+     * Reads the next bytes of the stream into the cache
+     *
+     * @throws IOCrash If an I/O error occurs
+     */
+    private boolean fill() throws IOCrash {
+        if (offset > 0) {
+            Object flight = Flight.begin(Flight.REFILL);
+            try {
+                offset = value.read(
+                    cache, 0, cache.length
+                );
+
+                if (offset > 0) {
+                    index = 0;
+                    return true;
+                }
+            } catch (Exception e) {
+                throw new IOCrash(e);
+            } finally {
+                Flight.commit(
+                    flight, this, null, offset
+                );
+            }
+        }
+
+        return false;
+    }
+
     @Override
     public void close() {
         try {
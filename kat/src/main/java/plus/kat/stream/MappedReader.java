@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.stream;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.crash.*;
+import plus.kat.utils.Config;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+/**
+ * Reads a file through {@link FileChannel#map(FileChannel.MapMode, long, long)},
+ * files larger than a window are remapped window by window
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+public class MappedReader implements Reader {
+
+    static final long SCALE;
+
+    static {
+        SCALE = Config.get(
+            "kat.mapped.scale", 1024 * 1024 * 64L
+        );
+    }
+
+    private long index;
+    private long length;
+    private final long scale;
+
+    private MappedByteBuffer cache;
+    private FileChannel value;
+
+    /**
+     * @throws NullPointerException If the specified {@code data} is null
+     * @throws IOCrash              If an I/O error occurs while reading the size of channel
+     */
+    public MappedReader(
+        @NotNull FileChannel data
+    ) throws IOCrash {
+        this(data, SCALE);
+    }
+
+    /**
+     * @param scale the size of each mapped window
+     * @throws NullPointerException     If the specified {@code data} is null
+     * @throws IllegalArgumentException If the specified {@code scale} is not positive
+     * @throws IOCrash                  If an I/O error occurs while reading the size of channel
+     */
+    public MappedReader(
+        @NotNull FileChannel data, long scale
+    ) throws IOCrash {
+        if (scale <= 0) {
+            throw new IllegalArgumentException(
+                "Received scale(" + scale + ") is not positive"
+            );
+        }
+
+        this.scale = scale;
+        if (data == null) {
+            throw new NullPointerException();
+        }
+
+        try {
+            this.value = data;
+            this.index = data.position();
+            this.length = data.size();
+        } catch (Exception e) {
+            throw new IOCrash(e);
+        }
+    }
+
+    @Override
+    public boolean also() throws IOCrash {
+        if (cache != null &&
+            cache.hasRemaining()) {
+            return true;
+        }
+
+        return remap();
+    }
+
+    @Override
+    public byte read() {
+        return cache.get();
+    }
+
+    @Override
+    public byte next() throws IOCrash {
+        if (cache != null &&
+            cache.hasRemaining()) {
+            return cache.get();
+        }
+
+        if (remap()) {
+            return cache.get();
+        }
+
+        throw new UnexpectedCrash(
+            "Unexpectedly, no readable byte"
+        );
+    }
+
+    /**
+     * Maps the next window of the file
+     *
+     * @throws IOCrash If an I/O error occurs
+     */
+    private boolean remap() throws IOCrash {
+        if (index < length) try {
+            long size = Math.min(
+                scale, length - index
+            );
+
+            cache = value.map(
+                READ_ONLY, index, size
+            );
+            index += size;
+            return true;
+        } catch (Exception e) {
+            throw new IOCrash(e);
+        }
+
+        return false;
+    }
+
+    @Override
+    public void close() {
+        try {
+            value.close();
+        } catch (Exception e) {
+            // NOOP
+        } finally {
+            index = 0;
+            length = 0;
+            cache = null;
+            value = null;
+        }
+    }
+}
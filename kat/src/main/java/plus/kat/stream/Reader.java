@@ -20,6 +20,7 @@ import plus.kat.anno.Nullable;
 
 import plus.kat.crash.*;
 import plus.kat.utils.Config;
+import plus.kat.utils.Meter;
 
 import java.util.concurrent.atomic.*;
 
@@ -98,9 +99,19 @@ public interface Reader {
             );
 
             if (it != null) {
+                if (Meter.ENABLED) {
+                    Meter.INS.count(
+                        Meter.Probe.READER_HIT
+                    );
+                }
                 return it;
             }
 
+            if (Meter.ENABLED) {
+                Meter.INS.count(
+                    Meter.Probe.READER_MISS
+                );
+            }
             return new byte[SCALE];
         }
 
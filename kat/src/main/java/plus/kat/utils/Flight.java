@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.utils;
+
+import plus.kat.anno.NotNull;
+import plus.kat.anno.Nullable;
+
+/**
+ * The flight events of kat, which are off by default. With {@code -Dkat.flight.enabled=true}
+ * and {@code jdk.jfr} present, the events are recorded by the JDK Flight Recorder,
+ * the recorder is loaded reflectively, so kat itself never links {@code jdk.jfr}
+ *
+ * <pre>{@code
+ *   Object flight = Flight.begin(Flight.DECODE);
+ *   try {
+ *       ...
+ *   } finally {
+ *       Flight.commit(flight, job, event, depth);
+ *   }
+ * }</pre>
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+public final class Flight {
+
+    public static final int DECODE = 0;
+    public static final int ENCODE = 1;
+    public static final int CREATE = 2;
+    public static final int REFILL = 3;
+
+    /**
+     * Whether the events are enabled
+     */
+    public static final boolean ENABLED;
+
+    private static final Recorder RECORDER;
+
+    static {
+        Recorder recorder = null;
+        if (Config.get(
+            "kat.flight.enabled", false
+        )) {
+            try {
+                recorder = (Recorder) Class.forName(
+                    "plus.kat.utils.FlightRecorder"
+                ).getDeclaredConstructor().newInstance();
+            } catch (Throwable e) {
+                // jdk.jfr is not present
+            }
+        }
+        RECORDER = recorder;
+        ENABLED = recorder != null;
+    }
+
+    private Flight() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Begins an event of the specified kind, returns {@code null} if it is not recorded
+     *
+     * @param kind the kind of event, such as {@link #DECODE}
+     */
+    @Nullable
+    public static Object begin(
+        int kind
+    ) {
+        if (ENABLED) {
+            return RECORDER.begin(kind);
+        }
+        return null;
+    }
+
+    /**
+     * Commits the specified event, does nothing if it is {@code null}
+     *
+     * <pre>{@code
+     *   DECODE: the job, the event, the maximum depth reached
+     *   ENCODE: the job, the encoded value, the number of encoded bytes
+     *   CREATE: the class, the created spare, zero
+     *   REFILL: the reader, null, the number of read bytes
+     * }</pre>
+     *
+     * @param flight  the event of {@link #begin(int)}
+     * @param subject the subject of event
+     * @param target  the target of event
+     * @param size    the size of event
+     */
+    public static void commit(
+        @Nullable Object flight,
+        @Nullable Object subject,
+        @Nullable Object target,
+        long size
+    ) {
+        if (flight != null) {
+            RECORDER.commit(
+                flight, subject, target, size
+            );
+        }
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    interface Recorder {
+        /**
+         * Begins an event of the specified kind
+         */
+        @Nullable
+        Object begin(
+            int kind
+        );
+
+        /**
+         * Commits the specified event
+         */
+        void commit(
+            @NotNull Object flight,
+            @Nullable Object subject,
+            @Nullable Object target,
+            long size
+        );
+    }
+}
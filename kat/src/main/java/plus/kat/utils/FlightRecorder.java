@@ -0,0 +1,204 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.utils;
+
+import plus.kat.anno.NotNull;
+import plus.kat.anno.Nullable;
+
+import plus.kat.Event;
+import plus.kat.Spare;
+
+import jdk.jfr.*;
+
+import java.lang.reflect.Type;
+
+/**
+ * The {@link Flight.Recorder} backed by the JDK Flight Recorder,
+ * only loaded by {@link Flight} when the events are enabled
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+final class FlightRecorder implements Flight.Recorder {
+
+    @Nullable
+    @Override
+    public Object begin(
+        int kind
+    ) {
+        jdk.jfr.Event event;
+        switch (kind) {
+            case Flight.DECODE: {
+                event = new Decode();
+                break;
+            }
+            case Flight.ENCODE: {
+                event = new Encode();
+                break;
+            }
+            case Flight.CREATE: {
+                event = new Create();
+                break;
+            }
+            case Flight.REFILL: {
+                event = new Refill();
+                break;
+            }
+            default: {
+                return null;
+            }
+        }
+
+        if (event.isEnabled()) {
+            event.begin();
+            return event;
+        }
+        return null;
+    }
+
+    @Override
+    public void commit(
+        @NotNull Object flight,
+        @Nullable Object subject,
+        @Nullable Object target,
+        long size
+    ) {
+        jdk.jfr.Event event =
+            (jdk.jfr.Event) flight;
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+
+        if (event instanceof Decode) {
+            Decode e = (Decode) event;
+            e.job = String.valueOf(subject);
+            e.type = name(target);
+            e.depth = (int) size;
+        } else if (event instanceof Encode) {
+            Encode e = (Encode) event;
+            e.job = String.valueOf(subject);
+            e.type = target == null ? null
+                : target.getClass().getName();
+            e.bytes = size;
+        } else if (event instanceof Create) {
+            Create e = (Create) event;
+            e.type = name(subject);
+            e.spare = target == null ? null
+                : target.getClass().getName();
+        } else if (event instanceof Refill) {
+            Refill e = (Refill) event;
+            e.reader = subject == null ? null
+                : subject.getClass().getName();
+            e.bytes = (int) size;
+        }
+        event.commit();
+    }
+
+    /**
+     * Returns the type name of the specified type or {@link Event}
+     */
+    @Nullable
+    private static String name(
+        @Nullable Object type
+    ) {
+        if (type instanceof Event) {
+            Event<?> event = (Event<?>) type;
+            Spare<?> spare = event.getSpare();
+            type = spare != null ?
+                spare.getType() : event.getType();
+        }
+        if (type instanceof Class) {
+            return ((Class<?>) type).getName();
+        }
+        if (type instanceof Type) {
+            return ((Type) type).getTypeName();
+        }
+        return null;
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    @Name("plus.kat.Decode")
+    @Label("Decode")
+    @Category("Kat")
+    @Description("Parses an event by a solver")
+    static final class Decode extends jdk.jfr.Event {
+        @Label("Job")
+        String job;
+
+        @Label("Type")
+        String type;
+
+        @Label("Depth")
+        int depth;
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    @Name("plus.kat.Encode")
+    @Label("Encode")
+    @Category("Kat")
+    @Description("Serializes a value into a chan")
+    static final class Encode extends jdk.jfr.Event {
+        @Label("Job")
+        String job;
+
+        @Label("Type")
+        String type;
+
+        @Label("Bytes")
+        @DataAmount
+        long bytes;
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    @Name("plus.kat.Create")
+    @Label("Spare Creation")
+    @Category("Kat")
+    @Description("Builds the spare of a class by reflection")
+    static final class Create extends jdk.jfr.Event {
+        @Label("Type")
+        String type;
+
+        @Label("Spare")
+        String spare;
+    }
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    @Name("plus.kat.Refill")
+    @Label("Reader Refill")
+    @Category("Kat")
+    @Description("Refills the buffer of a reader from its source")
+    static final class Refill extends jdk.jfr.Event {
+        @Label("Reader")
+        String reader;
+
+        @Label("Bytes")
+        @DataAmount
+        int bytes;
+    }
+}
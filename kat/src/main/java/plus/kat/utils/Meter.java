@@ -0,0 +1,250 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.utils;
+
+import plus.kat.anno.NotNull;
+
+import plus.kat.*;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics SPI of kat, which observes the parser pool, the buckets and
+ * the latency of decoding and encoding. It is disabled by default, enable it with
+ * {@code -Dkat.meter.enabled=true}, then every probe is guarded by the constant
+ * {@link #ENABLED} and is folded away by the JIT when it is off
+ *
+ * <pre>{@code
+ *   // META-INF/services/plus.kat.utils.Meter
+ *   // the first listed meter replaces the default one
+ *   com.example.PrometheusMeter
+ * }</pre>
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+public interface Meter {
+    /**
+     * Whether the metrics are enabled
+     */
+    boolean ENABLED = Config.get(
+        "kat.meter.enabled", false
+    );
+
+    /**
+     * The meter in use, or {@code null} if disabled
+     */
+    Meter INS = ENABLED ? Adder.load() : null;
+
+    /**
+     * Counts an occurrence of the specified {@link Probe}
+     *
+     * @param probe the specified probe
+     */
+    void count(
+        @NotNull Probe probe
+    );
+
+    /**
+     * Records a decoding of the specified {@link Job}
+     *
+     * @param job   the specified job
+     * @param nanos the elapsed nanoseconds
+     */
+    void decoded(
+        @NotNull Job job, long nanos
+    );
+
+    /**
+     * Records an encoding of the specified {@link Job}
+     *
+     * @param job   the specified job
+     * @param nanos the elapsed nanoseconds
+     * @param bytes the number of encoded bytes
+     */
+    void encoded(
+        @NotNull Job job, long nanos, long bytes
+    );
+
+    /**
+     * @author kraity
+     * @since 0.0.3
+     */
+    enum Probe {
+        /**
+         * Parser.Cluster
+         */
+        PARSER_BORROW,
+        PARSER_WAIT,
+        PARSER_CREATE,
+
+        /**
+         * Paper's bucket
+         */
+        PAPER_HIT,
+        PAPER_MISS,
+
+        /**
+         * Value's bucket
+         */
+        VALUE_HIT,
+        VALUE_MISS,
+
+        /**
+         * Reader.Bucket
+         */
+        READER_HIT,
+        READER_MISS,
+
+        /**
+         * Intern table
+         */
+        INTERN_HIT,
+        INTERN_MISS
+    }
+
+    /**
+     * The default {@link Meter} based on {@link LongAdder}, which is also
+     * registered as the MBean {@code plus.kat:type=Meter} if {@code java.management} is present
+     *
+     * @author kraity
+     * @since 0.0.3
+     */
+    class Adder implements Meter {
+
+        static final String[] STAGES = {
+            "DecodeCount", "DecodeNanos",
+            "EncodeCount", "EncodeNanos", "EncodeBytes"
+        };
+
+        protected final LongAdder[] probes;
+        protected final LongAdder[][] stages;
+
+        public Adder() {
+            Probe[] ps = Probe.values();
+            probes = new LongAdder[ps.length];
+            for (int i = 0; i < ps.length; i++) {
+                probes[i] = new LongAdder();
+            }
+
+            Job[] js = Job.values();
+            stages = new LongAdder[js.length][STAGES.length];
+            for (int i = 0; i < js.length; i++) {
+                for (int k = 0; k < STAGES.length; k++) {
+                    stages[i][k] = new LongAdder();
+                }
+            }
+        }
+
+        /**
+         * Returns the first meter of the services
+         * or a new registered {@link Adder}
+         */
+        @NotNull
+        static Meter load() {
+            KatLoader<Meter> loader =
+                new KatLoader<>(Meter.class);
+
+            try {
+                loader.load(
+                    Config.get(
+                        "kat.meter.provider",
+                        "plus.kat.utils.Meter"
+                    )
+                );
+                if (loader.hasNext()) {
+                    return loader.next();
+                }
+            } catch (Exception e) {
+                // Nothing
+            }
+
+            Adder adder = new Adder();
+            try {
+                Class.forName(
+                    "javax.management.DynamicMBean"
+                );
+                Class.forName(
+                    "plus.kat.utils.MeterBean"
+                ).getDeclaredMethod(
+                    "register", Adder.class
+                ).invoke(
+                    null, adder
+                );
+            } catch (Throwable e) {
+                // java.management is not present
+            }
+            return adder;
+        }
+
+        @Override
+        public void count(
+            @NotNull Probe probe
+        ) {
+            probes[probe.ordinal()].increment();
+        }
+
+        @Override
+        public void decoded(
+            @NotNull Job job, long nanos
+        ) {
+            LongAdder[] s = stages[job.ordinal()];
+            s[0].increment();
+            s[1].add(nanos);
+        }
+
+        @Override
+        public void encoded(
+            @NotNull Job job, long nanos, long bytes
+        ) {
+            LongAdder[] s = stages[job.ordinal()];
+            s[2].increment();
+            s[3].add(nanos);
+            s[4].add(bytes);
+        }
+
+        /**
+         * Returns the sum of the specified {@link Probe}
+         *
+         * @param probe the specified probe
+         */
+        public long sum(
+            @NotNull Probe probe
+        ) {
+            return probes[probe.ordinal()].sum();
+        }
+
+        /**
+         * Returns the sum of the specified stage of the specified {@link Job},
+         * such as {@code DecodeCount} or {@code EncodeBytes}
+         *
+         * @param job   the specified job
+         * @param stage the specified stage
+         * @return the sum, or {@code -1} if the stage does not exist
+         */
+        public long sum(
+            @NotNull Job job,
+            @NotNull String stage
+        ) {
+            for (int i = 0; i < STAGES.length; i++) {
+                if (STAGES[i].equals(stage)) {
+                    return stages[job.ordinal()][i].sum();
+                }
+            }
+            return -1;
+        }
+    }
+}
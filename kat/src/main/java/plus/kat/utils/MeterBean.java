@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022 Kat+ Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package plus.kat.utils;
+
+import plus.kat.anno.NotNull;
+import plus.kat.anno.Nullable;
+
+import plus.kat.Job;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+
+import static plus.kat.utils.Meter.*;
+
+/**
+ * The MBean {@code plus.kat:type=Meter} of {@link Meter.Adder},
+ * only loaded reflectively when {@code java.management} is present
+ *
+ * @author kraity
+ * @since 0.0.3
+ */
+final class MeterBean implements DynamicMBean {
+
+    static final String
+        NAME = "plus.kat:type=Meter";
+
+    private final Adder adder;
+
+    MeterBean(
+        @NotNull Adder adder
+    ) {
+        this.adder = adder;
+    }
+
+    /**
+     * Registers the specified {@link Meter.Adder} to the platform MBean server
+     *
+     * @param adder the specified adder
+     * @throws Exception If the registration fails
+     */
+    static void register(
+        @NotNull Adder adder
+    ) throws Exception {
+        ManagementFactory
+            .getPlatformMBeanServer()
+            .registerMBean(
+                new MeterBean(adder), new ObjectName(NAME)
+            );
+    }
+
+    /**
+     * Returns the value of the specified attribute, such as
+     * {@code PARSER_BORROW}, {@code JSON.DecodeCount} or {@code KAT.EncodeBytes}
+     *
+     * @param attribute the specified attribute
+     * @throws AttributeNotFoundException If the attribute does not exist
+     */
+    @Override
+    public Object getAttribute(
+        @NotNull String attribute
+    ) throws AttributeNotFoundException {
+        int dot = attribute.indexOf('.');
+        try {
+            if (dot == -1) {
+                return adder.sum(
+                    Probe.valueOf(attribute)
+                );
+            }
+
+            long sum = adder.sum(
+                Job.valueOf(
+                    attribute.substring(0, dot)
+                ),
+                attribute.substring(dot + 1)
+            );
+            if (sum != -1) {
+                return sum;
+            }
+        } catch (IllegalArgumentException e) {
+            // Nothing
+        }
+
+        throw new AttributeNotFoundException(attribute);
+    }
+
+    @Override
+    public AttributeList getAttributes(
+        @NotNull String[] attributes
+    ) {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            try {
+                list.add(
+                    new Attribute(
+                        attribute, getAttribute(attribute)
+                    )
+                );
+            } catch (AttributeNotFoundException e) {
+                // Nothing
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(
+        @NotNull Attribute attribute
+    ) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException(
+            "Meter's attribute " + attribute.getName() + " is read-only"
+        );
+    }
+
+    @Override
+    public AttributeList setAttributes(
+        @NotNull AttributeList attributes
+    ) {
+        return new AttributeList();
+    }
+
+    @Nullable
+    @Override
+    public Object invoke(
+        @NotNull String action,
+        @Nullable Object[] params,
+        @Nullable String[] signature
+    ) throws ReflectionException {
+        throw new ReflectionException(
+            new NoSuchMethodException(action)
+        );
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        Probe[] ps = Probe.values();
+        Job[] js = Job.values();
+        String[] stages = Adder.STAGES;
+
+        int i = 0, size = ps.length +
+            js.length * stages.length;
+        MBeanAttributeInfo[] attrs =
+            new MBeanAttributeInfo[size];
+
+        for (Probe p : ps) {
+            attrs[i++] = new MBeanAttributeInfo(
+                p.name(), "long", p.name(), true, false, false
+            );
+        }
+
+        for (Job j : js) {
+            for (String s : stages) {
+                String name = j.name() + '.' + s;
+                attrs[i++] = new MBeanAttributeInfo(
+                    name, "long", name, true, false, false
+                );
+            }
+        }
+
+        return new MBeanInfo(
+            Adder.class.getName(), "The metrics of kat",
+            attrs, null, null, null
+        );
+    }
+}
@@ -26,13 +26,23 @@ import plus.kat.chain.*;
 import plus.kat.entity.*;
 import plus.kat.reflex.*;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.invoke.*;
 import java.lang.reflect.*;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
 /**
  * @author kraity
@@ -158,7 +168,7 @@ public final class Reflect {
     ) {
         if (format != null) {
             if (klass == Date.class) {
-                return new DateSpare(format);
+                return DateSpare.of(format);
             } else if (klass == Instant.class) {
                 return new InstantSpare(format);
             } else if (klass == LocalDate.class) {
@@ -177,4 +187,112 @@ public final class Reflect {
 
         return null;
     }
+
+    /**
+     * Returns the classes in the specified package and its subpackages,
+     * scanning both directories and jar files of the classpath
+     *
+     * @param pkg    the specified package
+     * @param loader the specified class loader
+     * @throws IOException If an I/O error occurs
+     * @since 0.0.3
+     */
+    @NotNull
+    public static List<Class<?>> scan(
+        @NotNull String pkg,
+        @NotNull ClassLoader loader
+    ) throws IOException {
+        List<String> names = new ArrayList<>();
+        String path = pkg.replace('.', '/');
+
+        Enumeration<URL> urls =
+            loader.getResources(path);
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            switch (url.getProtocol()) {
+                case "file": {
+                    scan(
+                        new File(
+                            URLDecoder.decode(
+                                url.getFile(), "UTF-8"
+                            )
+                        ), pkg, names
+                    );
+                    break;
+                }
+                case "jar": {
+                    JarURLConnection conn =
+                        (JarURLConnection) url.openConnection();
+                    conn.setUseCaches(false);
+                    try (JarFile jar = conn.getJarFile()) {
+                        Enumeration<JarEntry> entries = jar.entries();
+                        while (entries.hasMoreElements()) {
+                            String name = entries
+                                .nextElement()
+                                .getName();
+                            if (name.startsWith(path + '/') &&
+                                name.endsWith(".class")) {
+                                names.add(
+                                    name.substring(0, name.length() - 6).replace('/', '.')
+                                );
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Class<?>> classes = new ArrayList<>();
+        for (String name : names) {
+            if (name.endsWith("package-info") ||
+                name.endsWith("module-info")) {
+                continue;
+            }
+
+            Class<?> klass;
+            try {
+                klass = Class.forName(
+                    name, false, loader
+                );
+            } catch (Throwable e) {
+                continue;
+            }
+
+            if (klass.isSynthetic() ||
+                klass.isAnonymousClass() ||
+                klass.isLocalClass() ||
+                klass.isInterface()) {
+                continue;
+            }
+            classes.add(klass);
+        }
+        return classes;
+    }
+
+    /**
+     * Collects the class names in the specified directory
+     */
+    private static void scan(
+        @NotNull File dir,
+        @NotNull String pkg,
+        @NotNull List<String> names
+    ) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                scan(
+                    file, pkg + '.' + name, names
+                );
+            } else if (name.endsWith(".class")) {
+                names.add(
+                    pkg + '.' + name.substring(0, name.length() - 6)
+                );
+            }
+        }
+    }
 }
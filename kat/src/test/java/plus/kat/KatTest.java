@@ -13,6 +13,41 @@ import static org.junit.jupiter.api.Assertions.*;
 
 public class KatTest {
 
+    @Test
+    public void test_set_primitive() throws Exception {
+        Chan[][] chans = new Chan[][]{
+            {new Chan(), new Chan()},
+            {new Json(), new Json()},
+            {new Doc(), new Doc()}
+        };
+
+        for (Chan[] c : chans) {
+            c[0].set("i", 1);
+            c[0].set("l", 2L);
+            c[0].set("f", 1.5F);
+            c[0].set("d", 2.5D);
+            c[0].set("z", true);
+            c[0].set("s", (short) 3);
+            c[0].set("b", (byte) 4);
+            c[0].set("c", 'k');
+            c[0].set(null, 5);
+
+            c[1].set("i", (Object) 1);
+            c[1].set("l", (Object) 2L);
+            c[1].set("f", (Object) 1.5F);
+            c[1].set("d", (Object) 2.5D);
+            c[1].set("z", (Object) true);
+            c[1].set("s", (Object) (short) 3);
+            c[1].set("b", (Object) (byte) 4);
+            c[1].set("c", (Object) 'k');
+            c[1].set(null, (Object) 5);
+
+            assertEquals(
+                c[1].toString(), c[0].toString()
+            );
+        }
+    }
+
     @Test
     public void test_pretty() {
         User user = new User();
@@ -2,9 +2,14 @@ package plus.kat;
 
 import org.junit.jupiter.api.Test;
 import plus.kat.anno.Expose;
+import plus.kat.entity.Coder;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 
 import static plus.kat.Spare.lookup;
@@ -81,6 +86,114 @@ public class SpareTest {
         assertNotNull(spare.getProvider());
     }
 
+    @Test
+    public void test_single_flight() throws Exception {
+        int size = 8;
+        ExecutorService pool =
+            Executors.newFixedThreadPool(size);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try {
+            List<Future<Spare<Meta>>> list = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                list.add(
+                    pool.submit(() -> {
+                        latch.await();
+                        return lookup(Meta.class);
+                    })
+                );
+            }
+            latch.countDown();
+
+            Spare<Meta> spare = lookup(Meta.class);
+            assertNotNull(spare);
+            for (Future<Spare<Meta>> future : list) {
+                assertSame(spare, future.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_absent() {
+        Supplier supplier = Supplier.ins();
+
+        assertNull(lookup(Runnable.class));
+        assertNull(lookup(Runnable.class));
+
+        Spare<?> spare = lookup(User.class);
+        supplier.embed(Runnable.class, spare);
+
+        try {
+            assertSame(spare, lookup(Runnable.class));
+        } finally {
+            supplier.revoke(Runnable.class);
+        }
+    }
+
+    @Test
+    public void test_absent_revoke() {
+        Supplier supplier = Supplier.ins();
+        assertNull(lookup(Callable.class));
+
+        Spare<?> spare = lookup(User.class);
+        supplier.embed(Callable.class, spare);
+        assertSame(spare, lookup(Callable.class));
+
+        supplier.revoke(Callable.class);
+        assertNull(lookup(Callable.class));
+        assertNull(lookup(Callable.class));
+    }
+
+    @Test
+    public void test_mirror() {
+        Supplier supplier = Supplier.ins();
+
+        Spare<Meta> spare = lookup(Meta.class);
+        assertNotNull(spare);
+        assertSame(spare, lookup(Meta.class));
+
+        Spare<?> user = lookup(User.class);
+        supplier.embed(Meta.class, user);
+        assertSame(user, lookup(Meta.class));
+
+        supplier.revoke(Meta.class);
+        Spare<Meta> next = lookup(Meta.class);
+        assertNotNull(next);
+        assertNotSame(user, next);
+        assertNotSame(spare, next);
+        supplier.embed(Meta.class, spare);
+    }
+
+    @Test
+    public void test_single_flight_cycle() throws Exception {
+        ExecutorService pool =
+            Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Spare<CycleA>> a = pool.submit(
+                () -> lookup(CycleA.class)
+            );
+            Future<Spare<CycleB>> b = pool.submit(
+                () -> lookup(CycleB.class)
+            );
+
+            assertNotNull(a.get(10, TimeUnit.SECONDS));
+            assertNotNull(b.get(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_unsupported() {
+        assertTrue(Spare.Cluster.unsupported(Runnable.class));
+        assertTrue(Spare.Cluster.unsupported(Thread.class));
+        assertFalse(Spare.Cluster.unsupported(User.class));
+        assertFalse(Spare.Cluster.unsupported(User[].class));
+    }
+
     static class User {
         @Expose("id")
         private int id;
@@ -88,4 +201,45 @@ public class SpareTest {
         @Expose("name")
         private String name;
     }
+
+    static class Meta {
+        @Expose("id")
+        private int id;
+    }
+
+    static final CountDownLatch CYCLE = new CountDownLatch(2);
+
+    static class CycleA {
+        @Expose(value = "b", with = CoderA.class)
+        private Object b;
+    }
+
+    static class CycleB {
+        @Expose(value = "a", with = CoderB.class)
+        private Object a;
+    }
+
+    static class CoderA implements Coder<Object> {
+        static final AtomicBoolean FIRST = new AtomicBoolean(true);
+
+        CoderA() throws InterruptedException {
+            if (FIRST.getAndSet(false)) {
+                CYCLE.countDown();
+                CYCLE.await(5, TimeUnit.SECONDS);
+                lookup(CycleB.class);
+            }
+        }
+    }
+
+    static class CoderB implements Coder<Object> {
+        static final AtomicBoolean FIRST = new AtomicBoolean(true);
+
+        CoderB() throws InterruptedException {
+            if (FIRST.getAndSet(false)) {
+                CYCLE.countDown();
+                CYCLE.await(5, TimeUnit.SECONDS);
+                lookup(CycleA.class);
+            }
+        }
+    }
 }
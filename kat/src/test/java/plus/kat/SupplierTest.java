@@ -376,6 +376,38 @@ public class SupplierTest {
         }
     }
 
+    @Test
+    public void test_preload() throws Exception {
+        Supplier supplier = Supplier.ins();
+
+        Map<Class<?>, long[]> cost = supplier.preload(
+            Arrays.asList(User.class, Runnable.class, String.class), 2
+        );
+
+        assertEquals(3, cost.size());
+        assertArrayEquals(
+            new Class[]{User.class, Runnable.class, String.class},
+            cost.keySet().toArray()
+        );
+        assertTrue(cost.get(User.class)[0] >= 0);
+        assertTrue(cost.get(User.class)[1] > 0);
+        assertTrue(cost.get(String.class)[0] >= 0);
+        assertArrayEquals(new long[]{-1L, 0L}, cost.get(Runnable.class));
+        assertNotNull(supplier.lookup(User.class));
+
+        assertThrows(NullPointerException.class, () ->
+            supplier.preload(
+                Arrays.asList(User.class, null), 0
+            )
+        );
+
+        Map<Class<?>, long[]> scan = supplier.preload(
+            "plus.kat.entity", 0
+        );
+        assertTrue(scan.containsKey(plus.kat.entity.User.class));
+        assertFalse(scan.containsKey(Job.class));
+    }
+
     static class User {
         @Expose("id")
         private int id;
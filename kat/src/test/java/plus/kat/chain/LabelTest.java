@@ -0,0 +1,78 @@
+package plus.kat.chain;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+import plus.kat.anno.Embed;
+import plus.kat.anno.Expose;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class LabelTest {
+
+    @Test
+    public void test_leading() {
+        Label label = new Label("name");
+
+        assertEquals(":name", new String(label.leading(Job.KAT), UTF_8));
+        assertEquals("\"name\":", new String(label.leading(Job.JSON), UTF_8));
+        assertEquals("<name>", new String(label.leading(Job.DOC), UTF_8));
+        assertEquals("</name>", new String(label.trailing(), UTF_8));
+
+        assertEquals("name", label.toString());
+        assertEquals(4, label.length());
+        assertEquals('a', label.charAt(1));
+        assertEquals(new Label("name"), label);
+    }
+
+    @Test
+    public void test_escaped() {
+        for (String name : new String[]{"", "a b", "a:b", "a\"b", "a<b", "a&b", "陆之岇"}) {
+            Label label = new Label(name);
+            assertNull(label.leading(Job.KAT));
+            assertNull(label.leading(Job.JSON));
+            assertNull(label.leading(Job.DOC));
+            assertNull(label.trailing());
+        }
+    }
+
+    @Test
+    public void test_encode() {
+        Meta meta = new Meta();
+        meta.id = 1;
+        meta.tag = "kat";
+        meta.tip = "<&>";
+
+        assertEquals(
+            "Meta{i:id(1)s:tag(kat)s:a^:b(<&>)}", Kat.encode(meta)
+        );
+        assertEquals(
+            "{\"id\":1,\"tag\":\"kat\",\"a:b\":\"<&>\"}", Json.encode(meta)
+        );
+        assertEquals(
+            "<Meta><id>1</id><tag>kat</tag><a:b>&lt;&amp;&gt;</a:b></Meta>", Doc.encode(meta)
+        );
+        assertEquals(
+            "{\n  \"id\":1,\n  \"tag\":\"kat\",\n  \"a:b\":\"<&>\"\n}", Json.pretty(meta)
+        );
+        assertEquals(
+            "<Meta>\n  <id>1</id>\n  <tag>kat</tag>\n  <a:b>&lt;&amp;&gt;</a:b>\n</Meta>", Doc.pretty(meta)
+        );
+    }
+
+    @Embed("Meta")
+    static class Meta {
+        @Expose(index = 0)
+        public int id;
+
+        @Expose(index = 1)
+        public String tag;
+
+        @Expose(value = "a:b", index = 2)
+        public String tip;
+    }
+}
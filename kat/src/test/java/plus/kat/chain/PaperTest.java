@@ -0,0 +1,178 @@
+package plus.kat.chain;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class PaperTest {
+
+    @Test
+    public void test_emit() {
+        String[][] cases = {
+            {"kraity", "kraity", "kraity", "kraity"},
+            {"a\"b\\c", "a\\\"b\\\\c", "a\"b\\c", "a\"b\\c"},
+            {"x(y)^z", "x(y)^z", "x^(y^)^^z", "x(y)^z"},
+            {"<a&b>", "<a&b>", "<a&b>", "&lt;a&amp;b&gt;"},
+            {"line\n\tend", "line\\n\\tend", "line\n\tend", "line\n\tend"},
+            {"陆之岇 kat", "陆之岇 kat", "陆之岇 kat", "陆之岇 kat"},
+            {"kat😀+", "kat😀+", "kat😀+", "kat😀+"},
+        };
+
+        for (String[] c : cases) {
+            for (Object data : new Object[]{c[0], new StringBuilder(c[0])}) {
+                Paper json = new Json.Flow();
+                json.emit((CharSequence) data);
+                assertEquals(c[1], json.toString());
+
+                Paper kat = new Chan.Flow();
+                kat.emit((CharSequence) data);
+                assertEquals(c[2], kat.toString());
+
+                Paper doc = new Doc.Flow();
+                doc.emit((CharSequence) data);
+                assertEquals(c[3], doc.toString());
+            }
+        }
+    }
+
+    @Test
+    public void test_emit_mixed() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) sb.append('"');
+        for (int i = 0; i < 1000; i++) sb.append('a');
+        for (int i = 0; i < 300; i++) sb.append("陆&");
+        for (int i = 0; i < 1000; i++) sb.append('b');
+        String text = sb.toString();
+
+        for (Object data : new Object[]{text, new StringBuilder(text)}) {
+            Paper json = new Json.Flow();
+            json.emit((CharSequence) data);
+            assertEquals(text.replace("\"", "\\\""), json.toString());
+
+            Paper doc = new Doc.Flow();
+            doc.emit((CharSequence) data);
+            assertEquals(text.replace("&", "&amp;"), doc.toString());
+
+            Paper text1 = new Json.Flow();
+            text1.text((CharSequence) data);
+            assertEquals(text.replace("\"", "\\\"").replace("陆", "\\u9646"), text1.toString());
+        }
+
+        Map<String, String> map = new HashMap<>();
+        map.put("k", text);
+        assertEquals(map, Json.decode(Map.class, Json.encode(map)));
+    }
+
+    @Test
+    public void test_text() {
+        Paper json = new Json.Flow();
+        json.text("kat\"陆之岇\"");
+        assertEquals("kat\\\"\\u9646\\u4E4B\\u5C87\\\"", json.toString());
+
+        Paper part = new Json.Flow();
+        part.text(new StringBuilder("<kraity>"), 1, 6);
+        assertEquals("kraity", part.toString());
+    }
+
+    @Test
+    public void test_addInt() {
+        Random random = new Random(1);
+        int[] nums = {
+            0, 9, 10, 99, 100, -1, -10, 1000000000,
+            Integer.MAX_VALUE, Integer.MIN_VALUE
+        };
+
+        Paper flow = new Chan.Flow();
+        StringBuilder sb = new StringBuilder();
+        for (int num : nums) {
+            flow.addInt(num);
+            sb.append(num).append(',');
+            flow.addByte((byte) ',');
+        }
+        for (int i = 0; i < 1000; i++) {
+            int num = random.nextInt() >> random.nextInt(32);
+            flow.addInt(num);
+            sb.append(num).append(',');
+            flow.addByte((byte) ',');
+        }
+        assertEquals(sb.toString(), flow.toString());
+
+        flow = new Chan.Flow();
+        flow.addInt(36, 1);
+        flow.addByte((byte) ',');
+        flow.addInt(-36, 4);
+        flow.addByte((byte) ',');
+        flow.addInt(0, 3);
+        flow.addByte((byte) ',');
+        flow.addInt(-36, 4, 12);
+        assertEquals("100100,ffffffdc,0,0000ffffffdc", flow.toString());
+    }
+
+    @Test
+    public void test_addLong() {
+        Random random = new Random(1);
+        long[] nums = {
+            0L, 9L, -99L, 2147483648L, -2147483649L,
+            1000000000000000000L, Long.MAX_VALUE, Long.MIN_VALUE
+        };
+
+        Paper flow = new Json.Flow();
+        StringBuilder sb = new StringBuilder();
+        for (long num : nums) {
+            flow.addLong(num);
+            sb.append(num).append(',');
+            flow.addByte((byte) ',');
+        }
+        for (int i = 0; i < 1000; i++) {
+            long num = random.nextLong() >> random.nextInt(64);
+            flow.addLong(num);
+            sb.append(num).append(',');
+            flow.addByte((byte) ',');
+        }
+        assertEquals(sb.toString(), flow.toString());
+
+        flow = new Json.Flow();
+        flow.addLong(36L, 2);
+        flow.addByte((byte) ',');
+        flow.addLong(-36L, 4);
+        flow.addByte((byte) ',');
+        flow.addLong(36L, 3, 3);
+        assertEquals("210,ffffffffffffffdc,044", flow.toString());
+    }
+
+    @Test
+    public void test_addUUID() {
+        for (int i = 0; i < 100; i++) {
+            UUID uuid = UUID.randomUUID();
+            assertEquals(
+                "\"" + uuid + "\"", Json.encode(uuid)
+            );
+        }
+    }
+
+    @Test
+    public void test_addUUID2() {
+        Paper flow = new Json.Flow();
+        flow.addByte((byte) '[');
+        for (int i = 0; i < 3; i++) {
+            UUID uuid = UUID.randomUUID();
+            flow.addUUID(
+                uuid.getMostSignificantBits(),
+                uuid.getLeastSignificantBits()
+            );
+            assertEquals(
+                uuid.toString(), flow.toString().substring(1 + i * 36)
+            );
+        }
+    }
+}
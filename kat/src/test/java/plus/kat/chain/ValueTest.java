@@ -2,6 +2,13 @@ package plus.kat.chain;
 
 import org.junit.jupiter.api.Test;
 
+import plus.kat.*;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ValueTest {
@@ -61,4 +68,80 @@ public class ValueTest {
         Value v4 = new Value("123.456789");
         assertEquals(123.456789D, v4.toDouble());
     }
+
+    @Test
+    public void test_scan() {
+        Object[][] cases = {
+            {"0", Value.INTEGER},
+            {"-0", Value.INTEGER},
+            {"7", Value.INTEGER},
+            {"-1400", Value.INTEGER},
+            {"2147483648", Value.INTEGER},
+            {"-9223372036854775808", Value.INTEGER},
+            {"9223372036854775807", Value.INTEGER},
+            {"9223372036854775808", Value.OVERFLOW},
+            {"-9223372036854775809", Value.OVERFLOW},
+            {"1.25", Value.DECIMAL},
+            {"-3e-2", Value.DECIMAL},
+            {"010", 0},
+            {"0x1F", 0},
+            {"-", 0},
+            {"+1", 0},
+            {"1-2", 0},
+            {"kat", 0},
+            {"", 0},
+        };
+
+        for (Object[] c : cases) {
+            String s = (String) c[0];
+            Value fused = new Value();
+            for (byte b : s.getBytes(UTF_8)) {
+                fused.scan(b);
+            }
+            Value plain = new Value(s);
+
+            assertEquals(c[1], fused.getKind(), s);
+            assertEquals(0, plain.getKind(), s);
+            assertEquals(plain.toInt(-1), fused.toInt(-1), s);
+            assertEquals(plain.toLong(-1L), fused.toLong(-1L), s);
+            assertEquals(Double.doubleToLongBits(plain.toDouble(-1D)), Double.doubleToLongBits(fused.toDouble(-1D)), s);
+        }
+
+        Value v = new Value();
+        v.scan((byte) '1');
+        v.scan((byte) '2');
+        assertEquals(12, v.toInt());
+
+        v.add((byte) '3');
+        assertEquals(0, v.getKind());
+        assertEquals(123, v.toInt());
+
+        v.clean();
+        v.add("abc");
+        assertEquals(0, v.getKind());
+        assertEquals(0L, v.toLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_scan_decode() {
+        Map<String, Object> json = Json.decode(
+            Map.class, "{\"a\":1400,\"b\":-9223372036854775808,\"c\":[1.5,\"12\",12]}"
+        );
+        assertNotNull(json);
+        assertEquals(1400, json.get("a"));
+        assertEquals(Long.MIN_VALUE, json.get("b"));
+        assertEquals(1.5, ((List<Object>) json.get("c")).get(0));
+        assertEquals("12", ((List<Object>) json.get("c")).get(1));
+        assertEquals(12, ((List<Object>) json.get("c")).get(2));
+
+        Map<String, Object> kat = Kat.decode(
+            Map.class, "{i:a(1400)l:b(-9223372036854775808)i:c(010)i:d(2^s1)}"
+        );
+        assertNotNull(kat);
+        assertEquals(1400, kat.get("a"));
+        assertEquals(Long.MIN_VALUE, kat.get("b"));
+        assertEquals(8, kat.get("c"));
+        assertEquals(0, kat.get("d"));
+    }
 }
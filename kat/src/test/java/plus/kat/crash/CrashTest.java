@@ -0,0 +1,68 @@
+package plus.kat.crash;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CrashTest {
+
+    @Test
+    public void test_message() {
+        UnexpectedCrash e0 = new UnexpectedCrash(
+            "Unexpectedly, byte '%s' at %s", (char) 'k', 12
+        );
+        assertEquals(
+            "Unexpectedly, byte 'k' at 12", e0.getMessage()
+        );
+        assertTrue(
+            e0.toString().endsWith("Unexpectedly, byte 'k' at 12")
+        );
+
+        UnexpectedCrash e1 = new UnexpectedCrash(
+            "Unexpectedly, 100%"
+        );
+        assertEquals(
+            "Unexpectedly, 100%", e1.getMessage()
+        );
+
+        Throwable cause = new IllegalStateException();
+        UnexpectedCrash e2 = new UnexpectedCrash(
+            "Unexpectedly", cause
+        );
+        assertSame(cause, e2.getCause());
+        assertEquals("Unexpectedly", e2.getMessage());
+    }
+
+    @Test
+    public void test_message_once() {
+        StringBuilder space = new StringBuilder("BitSet");
+        UnexpectedCrash e = new UnexpectedCrash(
+            "Unexpectedly, invalid type '%s'", space
+        );
+
+        String m = e.getMessage();
+        assertEquals(
+            "Unexpectedly, invalid type 'BitSet'", m
+        );
+
+        space.setLength(0);
+        space.append("recycled");
+        assertSame(m, e.getMessage());
+    }
+
+    @Test
+    public void test_stack_trace() {
+        assertEquals(
+            Crash.STACKLESS,
+            new UnexpectedCrash("kat").getStackTrace().length == 0
+        );
+        assertEquals(
+            Crash.STACKLESS,
+            new RunCrash("kat").getStackTrace().length == 0
+        );
+        assertEquals(
+            Crash.STACKLESS,
+            new Crash("kat").getStackTrace().length == 0
+        );
+    }
+}
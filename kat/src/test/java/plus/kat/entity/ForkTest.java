@@ -0,0 +1,92 @@
+package plus.kat.entity;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.Spare;
+import plus.kat.Supplier;
+import plus.kat.crash.IOCrash;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ForkTest {
+
+    @Test
+    public void test_scan() throws IOCrash {
+        byte[] data = " [ {\"a\":\"],\\\"\"} , [1,[2]],\"x,y\", 3 ] ".getBytes(UTF_8);
+        int[] bounds = Fork.scan(
+            data, 0, data.length
+        );
+
+        assertEquals(8, bounds.length);
+        assertEquals("{\"a\":\"],\\\"\"}", new String(data, bounds[0], bounds[1] - bounds[0], UTF_8));
+        assertEquals("[1,[2]]", new String(data, bounds[2], bounds[3] - bounds[2], UTF_8));
+        assertEquals("\"x,y\"", new String(data, bounds[4], bounds[5] - bounds[4], UTF_8));
+        assertEquals("3", new String(data, bounds[6], bounds[7] - bounds[6], UTF_8));
+
+        assertEquals(0, Fork.scan("[ ]".getBytes(UTF_8), 0, 3).length);
+        assertThrows(IOCrash.class, () -> Fork.scan("[1,]".getBytes(UTF_8), 0, 4));
+        assertThrows(IOCrash.class, () -> Fork.scan("[{}".getBytes(UTF_8), 0, 3));
+        assertThrows(IOCrash.class, () -> Fork.scan("{}".getBytes(UTF_8), 0, 2));
+        assertThrows(IOCrash.class, () -> Fork.scan("[1}".getBytes(UTF_8), 0, 3));
+        assertThrows(IOCrash.class, () -> Fork.scan("[[1}]".getBytes(UTF_8), 0, 5));
+        assertThrows(IOCrash.class, () -> Fork.scan("[{]}".getBytes(UTF_8), 0, 4));
+        assertThrows(IOCrash.class, () -> Fork.scan("[1,2]garbage".getBytes(UTF_8), 0, 12));
+        assertThrows(IOCrash.class, () -> Fork.scan("[]x".getBytes(UTF_8), 0, 3));
+        assertEquals(4, Fork.scan("[1,2] \n".getBytes(UTF_8), 0, 7).length);
+    }
+
+    @Test
+    public void test_parse() throws IOCrash {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            if (i != 0) sb.append(',');
+            sb.append("{\"uid\":").append(i)
+                .append(",\"name\":\"kat").append(i).append("\"}");
+        }
+        sb.append(']');
+
+        Spare<User> spare =
+            Spare.lookup(User.class);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<User> users = Fork.parse(
+                spare, Supplier.ins(), 0L, sb.toString().getBytes(UTF_8), pool
+            );
+
+            assertEquals(1000, users.size());
+            for (int i = 0; i < 1000; i++) {
+                User user = users.get(i);
+                assertEquals(i, user.uid);
+                assertEquals("kat" + i, user.name);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_parse_wide() throws IOCrash {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 4096; i++) {
+            if (i != 0) sb.append(',');
+            sb.append("{\"uid\":").append(i).append('}');
+        }
+        sb.append(']');
+
+        ForkJoinPool pool = new ForkJoinPool(64);
+        try {
+            List<User> users = Fork.parse(
+                Spare.lookup(User.class), Supplier.ins(), 0L, sb.toString().getBytes(UTF_8), pool
+            );
+            assertEquals(4096, users.size());
+            assertEquals(4095, users.get(4095).uid);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
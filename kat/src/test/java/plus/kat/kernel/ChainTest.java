@@ -12,6 +12,29 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class ChainTest {
 
+    @Test
+    public void test_toString_ascii() {
+        String[] list = {
+            "", "k", "kraity", "kraity.kat.plus", "{\"id\":1,\"tag\":\"kat\"}",
+            "陆之岇", "kraity.陆之岇", "kraity.kat.plus.😀", "陆kraity.kat.plus"
+        };
+
+        for (String text : list) {
+            Value value = new Value(text);
+            assertEquals(text, value.toString());
+
+            byte[] bytes = text.getBytes(UTF_8);
+            assertEquals(
+                text.isEmpty() || bytes.length == text.length(),
+                Chain.ascii(bytes, 0, bytes.length)
+            );
+        }
+
+        Value value = new Value("陆之岇kraity.kat.plus😀");
+        assertEquals("kraity.kat.plus", value.toString(9, 24));
+        assertEquals("岇kraity", value.toString(6, 15));
+    }
+
     @Test
     public void test_is() {
         assertTrue(new Value("$").is('$'));
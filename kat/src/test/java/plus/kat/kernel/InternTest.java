@@ -0,0 +1,50 @@
+package plus.kat.kernel;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.chain.Alias;
+import plus.kat.chain.Value;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class InternTest {
+
+    @Test
+    public void test_disabled() {
+        assertNull(Intern.INS);
+
+        Alias alias = new Alias("id");
+        String s1 = Intern.of(alias);
+        String s2 = Intern.of(alias);
+
+        assertEquals("id", s1);
+        assertNotSame(s1, s2);
+    }
+
+    @Test
+    public void test_lookup() {
+        Intern intern = new Intern(16, 8);
+
+        String s1 = intern.lookup(new Alias("status"));
+        String s2 = intern.lookup(new Value("status"));
+        assertEquals("status", s1);
+        assertSame(s1, s2);
+
+        String s3 = intern.lookup(new Value("statux"));
+        assertEquals("statux", s3);
+        assertSame(s3, intern.lookup(new Alias("statux")));
+
+        String s4 = intern.lookup(new Value("kraity.kat"));
+        assertEquals("kraity.kat", s4);
+        assertNotSame(s4, intern.lookup(new Value("kraity.kat")));
+
+        String s5 = intern.lookup(new Value("陆之岇"));
+        assertEquals("陆之岇", s5);
+        assertNotSame(s5, intern.lookup(new Value("陆之岇")));
+
+        assertEquals("", intern.lookup(new Value("")));
+    }
+}
@@ -8,6 +8,10 @@ import plus.kat.anno.Embed;
 import plus.kat.anno.Expose;
 import plus.kat.anno.NotNull;
 import plus.kat.anno.Unwrapped;
+import plus.kat.chain.Alias;
+import plus.kat.chain.Value;
+import plus.kat.crash.Crash;
+import plus.kat.entity.Setter;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -107,6 +111,70 @@ public class ReflexTest {
         assertEquals("{\"b\":{\"i\":1},\"c\":{\"i\":2},\"d\":{\"i\":3,\"j\":4},\"e\":{\"f\":{\"m\":6,\"n\":5},\"k\":5}}", Json.encode(a));
     }
 
+    @Test
+    public void test_apply() throws Exception {
+        ReflectSpare<Author> spare = new ReflectSpare<>(
+            Author.class, Supplier.ins()
+        );
+
+        Author author = spare.apply(
+            Alias.EMPTY, 1, "kraity"
+        );
+        assertNotNull(author);
+        assertEquals(1, author.id);
+        assertEquals("kraity", author.name);
+
+        assertThrows(
+            Crash.class, () -> spare.apply(Alias.EMPTY, 1)
+        );
+        assertThrows(
+            Crash.class, () -> spare.apply(Alias.EMPTY, null, "kraity")
+        );
+    }
+
+    @Test
+    public void test_primitive() {
+        Supplier supplier = Supplier.ins();
+
+        Prim prim = supplier.parse(
+            Prim.class, new Event<>(
+                "{\"i\":1,\"l\":2,\"f\":1.5,\"d\":2.5,\"z\":true,\"s\":3,\"b\":4,\"c\":\"k\",\"n\":5}"
+            )
+        );
+
+        assertNotNull(prim);
+        assertEquals(1, prim.i);
+        assertEquals(2L, prim.l);
+        assertEquals(1.5F, prim.f);
+        assertEquals(2.5D, prim.d);
+        assertTrue(prim.z);
+        assertEquals(3, prim.s);
+        assertEquals(4, prim.b);
+        assertEquals('k', prim.c);
+        assertEquals(5, prim.getN());
+
+        String json = supplier.serial(prim).toString();
+        assertEquals(
+            "{\"i\":1,\"l\":2,\"f\":1.5,\"d\":2.5,\"z\":true,\"s\":3,\"b\":4,\"c\":\"k\",\"n\":5}", json
+        );
+
+        Chan[] chans = new Chan[]{
+            supplier.write(prim),
+            supplier.serial(prim),
+            supplier.mark(prim)
+        };
+
+        for (Chan chan : chans) {
+            Prim copy = supplier.solve(
+                Prim.class, chan.getJob(), new Event<>(
+                    chan.toString()
+                )
+            );
+            assertNotNull(copy, chan.toString());
+            assertEquals(json, supplier.serial(copy).toString());
+        }
+    }
+
     static class A {
         public B b;
         public C c;
@@ -330,4 +398,60 @@ public class ReflexTest {
         bean.two = 2;
         assertEquals("{\"one\":1}", Json.encode(bean));
     }
+
+    @Test
+    public void test_primitive_crash() throws Exception {
+        Supplier supplier = Supplier.ins();
+
+        @SuppressWarnings("unchecked")
+        ReflectSpare<Faulty> spare = (ReflectSpare<Faulty>)
+            supplier.lookup(Faulty.class);
+
+        Setter<Faulty, ?> setter = spare.setter(
+            0, new Alias("n".getBytes())
+        );
+        assertNotNull(setter);
+
+        Faulty faulty = new Faulty();
+        assertFalse(
+            setter.onAccept(
+                faulty, new Event<>(""), new Value("5"), supplier
+            )
+        );
+        assertEquals(0, faulty.n);
+    }
+
+    static class Prim {
+        public int i;
+        public long l;
+        public float f;
+        public double d;
+        public boolean z;
+        public short s;
+        public byte b;
+        public char c;
+        private int n;
+
+        public int getN() {
+            return n;
+        }
+
+        public void setN(int n) {
+            this.n = n;
+        }
+    }
+
+    static class Faulty {
+        private int n;
+
+        public void setN(
+            int n
+        ) {
+            throw new IllegalStateException();
+        }
+
+        public int getN() {
+            return n;
+        }
+    }
 }
@@ -0,0 +1,118 @@
+package plus.kat.spare;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+import plus.kat.chain.*;
+import plus.kat.crash.*;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class DateSpareTest {
+
+    @Test
+    public void test_compat() throws Exception {
+        String[] patterns = {
+            "yyyy-MM-dd HH:mm:ss",
+            "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+            "yyyy/MM/dd",
+            "dd,MMMM yyyy"
+        };
+        String[] zones = {
+            "", "GMT", "Asia/Shanghai", "America/New_York"
+        };
+
+        Random random = new Random(1);
+        Event<Date> event = new Event<>();
+        for (String pattern : patterns) {
+            for (String zone : zones) {
+                DateSpare spare = DateSpare.of(pattern, zone, "zh");
+                SimpleDateFormat sdf = new SimpleDateFormat(pattern, Locale.CHINESE);
+                if (!zone.isEmpty()) {
+                    sdf.setTimeZone(TimeZone.getTimeZone(zone));
+                }
+
+                for (int i = 0; i < 500; i++) {
+                    Date date = new Date(
+                        -2208988800000L + (long) (random.nextDouble() * 6311433600000L)
+                    );
+                    String text = sdf.format(date);
+                    assertEquals("\"" + text + "\"", spare.serial(date).toString());
+                    assertEquals(sdf.parse(text), spare.read(event, new Value(text)));
+                    assertEquals(sdf.parse(text), spare.cast(Supplier.ins(), text));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_lenient() throws IOCrash {
+        DateSpare spare = DateSpare.of("yyyy-MM-dd HH:mm:ss", "GMT", "");
+
+        Event<Date> event = new Event<>();
+        assertEquals(1641899471000L, spare.read(event, new Value("2022-01-11 11:11:11")).getTime());
+        assertEquals(1641899471000L, spare.read(event, new Value("2022-1-11 11:11:11")).getTime());
+        assertEquals(1641899471000L, spare.read(event, new Value("2021-13-11 11:11:11")).getTime());
+        assertEquals(1641871353000L, spare.read(event, new Value("1641871353000")).getTime());
+        assertNull(spare.read(event, new Value("2022/01/11")));
+    }
+
+    @Test
+    public void test_compatible() throws Exception {
+        DateSpare spare = DateSpare.of("yyyy-MM-dd HH:mm:ss", "GMT", "");
+
+        assertEquals("yyyy-MM-dd HH:mm:ss", spare.toPattern());
+        assertEquals(TimeZone.getTimeZone("GMT"), spare.getTimeZone());
+        assertEquals("2022-01-11 11:11:11", spare.format(new Date(1641899471000L)));
+        assertEquals(1641899471000L, spare.parse("2022-01-11 11:11:11").getTime());
+        assertThrows(
+            ParseException.class, () -> spare.parse("2022/01/11")
+        );
+    }
+
+    @Test
+    public void test_shared() throws Exception {
+        DateSpare spare = DateSpare.of("yyyy-MM-dd HH:mm:ss", "Asia/Shanghai", "");
+        assertSame(spare, DateSpare.of("yyyy-MM-dd HH:mm:ss", "Asia/Shanghai", ""));
+        assertNotSame(spare, DateSpare.of("yyyy-MM-dd HH:mm:ss", "GMT", ""));
+
+        ExecutorService service = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final long seed = t;
+                futures.add(service.submit(() -> {
+                    Random random = new Random(seed);
+                    Event<Date> event = new Event<>();
+                    for (int i = 0; i < 1000; i++) {
+                        Date date = new Date(
+                            random.nextInt(Integer.MAX_VALUE) * 1000L
+                        );
+                        String text = spare.write(date).toString();
+                        Date that = spare.read(
+                            event, new Value(text.substring(5, text.length() - 1))
+                        );
+                        if (!date.equals(that)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+}
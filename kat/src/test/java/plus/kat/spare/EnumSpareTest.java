@@ -0,0 +1,65 @@
+package plus.kat.spare;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+import plus.kat.chain.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class EnumSpareTest {
+
+    @Test
+    public void test_read() {
+        EnumSpare<State> spare = new EnumSpare<>(
+            State.class, null, Supplier.ins()
+        );
+
+        Event<State> event = new Event<>();
+        for (State state : State.values()) {
+            assertSame(state, spare.read(event, new Alias(state.name())));
+            assertSame(state, spare.read(event, new Value(state.name())));
+        }
+
+        assertNull(spare.read(event, new Value("")));
+        assertNull(spare.read(event, new Value("OPEN_")));
+        assertNull(spare.read(event, new Alias("open")));
+        assertNull(spare.read(event, new Alias("关")));
+
+        assertSame(State.关闭, spare.cast(Supplier.ins(), "关闭"));
+        assertSame(State.CLOSED, spare.cast(Supplier.ins(), 1));
+    }
+
+    @Test
+    public void test_subset() {
+        EnumSpare<State> spare = new EnumSpare<>(
+            State.class, new State[]{State.OPEN}, null, Supplier.ins()
+        );
+
+        Event<State> event = new Event<>();
+        assertSame(State.OPEN, spare.read(event, new Value("OPEN")));
+        assertNull(spare.read(event, new Value("CLOSED")));
+        assertEquals("\"CLOSED\"", spare.serial(State.CLOSED).toString());
+    }
+
+    @Test
+    public void test_write() {
+        EnumSpare<State> spare = new EnumSpare<>(
+            State.class, null, Supplier.ins()
+        );
+
+        for (State state : State.values()) {
+            assertEquals("\"" + state.name() + "\"", spare.serial(state).toString());
+        }
+        assertTrue(spare.write(State.关闭).toString().endsWith("$State(关闭)"));
+        assertTrue(spare.mark(State.$OPEN).toString().contains(">$OPEN</"));
+        assertEquals("1", spare.serial(State.CLOSED, Flag.ENUM_AS_INDEX).toString());
+    }
+
+    enum State {
+        OPEN, CLOSED, 关闭, $OPEN, OPEN_CLOSED
+    }
+}
@@ -0,0 +1,84 @@
+package plus.kat.spare;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+import plus.kat.anno.Expose;
+import plus.kat.crash.IOCrash;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InlineTest {
+
+    static String expect(
+        Chan chan, Iterable<?> list
+    ) throws IOCrash {
+        for (Object e : list) {
+            chan.set("i", e);
+        }
+        return chan.toString();
+    }
+
+    static String inline(
+        Chan chan, Iterable<?> list
+    ) throws IOCrash {
+        Inline inline = new Inline(chan);
+        for (Object e : list) {
+            inline.set("i", e);
+        }
+        return chan.toString();
+    }
+
+    @Test
+    public void test_set() throws IOCrash {
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            User user = new User();
+            user.id = i;
+            user.name = "kraity";
+            list.add(user);
+            list.add(user);
+            list.add(i % 2 == 0 ? "k" + i : null);
+            list.add(i);
+            list.add(Collections.singletonMap("id", i));
+        }
+
+        assertEquals(
+            expect(new Chan(), list), inline(new Chan(), list)
+        );
+        assertEquals(
+            expect(new Json(), list), inline(new Json(), list)
+        );
+        assertEquals(
+            expect(new Doc(), list), inline(new Doc(), list)
+        );
+    }
+
+    @Test
+    public void test_write() {
+        List<Object> list = new LinkedList<>();
+        list.add(1);
+        list.add(2);
+        list.add("kat");
+
+        assertEquals(
+            "[1,2,\"kat\"]", Json.encode(list)
+        );
+        assertEquals(
+            "[1,2,\"kat\"]", Json.encode(new Object[]{1, 2, "kat"})
+        );
+        assertEquals(
+            "[1,2,\"kat\"]", Json.encode(new ArrayList<>(list))
+        );
+    }
+
+    static class User {
+        @Expose("id")
+        private int id;
+
+        @Expose("name")
+        private String name;
+    }
+}
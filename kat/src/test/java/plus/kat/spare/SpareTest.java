@@ -300,6 +300,18 @@ public class SpareTest {
         assertEquals("UUID(092f7929-d2d6-44d6-9cc1-694c2e360c56)", Kat.encode(uuid));
     }
 
+    @Test
+    public void test_UUID_write() {
+        UUID[] list = new UUID[]{
+            UUID.fromString("092f7929-d2d6-44d6-9cc1-694c2e360c56"),
+            UUID.fromString("ffffffff-0000-4000-8000-000000000001")
+        };
+
+        assertEquals(
+            "[\"092f7929-d2d6-44d6-9cc1-694c2e360c56\",\"ffffffff-0000-4000-8000-000000000001\"]", Json.encode(list)
+        );
+    }
+
     @Test
     public void test_AtomicInteger_read() {
         AtomicIntegerSpare spare = AtomicIntegerSpare.INSTANCE;
@@ -0,0 +1,171 @@
+package plus.kat.spare;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+import plus.kat.crash.IOCrash;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SplitterTest {
+
+    static String write(
+        Chan chan, Collection<?> list, ForkJoinPool pool
+    ) throws IOCrash {
+        if (chan instanceof Json) {
+            ((Json.Flow) chan.getFlow()).leftBracket();
+        }
+        assertTrue(
+            Splitter.write(
+                chan, list.spliterator(), (c, e) -> c.set("i", e), pool
+            )
+        );
+        if (chan instanceof Json) {
+            ((Json.Flow) chan.getFlow()).rightBracket();
+        }
+        return chan.toString();
+    }
+
+    static String expect(
+        Chan chan, Collection<?> list
+    ) throws IOCrash {
+        if (chan instanceof Json) {
+            ((Json.Flow) chan.getFlow()).leftBracket();
+        }
+        for (Object e : list) {
+            chan.set("i", e);
+        }
+        if (chan instanceof Json) {
+            ((Json.Flow) chan.getFlow()).rightBracket();
+        }
+        return chan.toString();
+    }
+
+    @Test
+    public void test_write() throws IOCrash {
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            list.add(i % 3 == 0 ? "k" + i : i);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long flags : new long[]{0, Flag.PRETTY}) {
+                assertEquals(
+                    expect(new Chan(flags), list), write(new Chan(flags), list, pool)
+                );
+                assertEquals(
+                    expect(new Json(flags), list), write(new Json(flags), list, pool)
+                );
+                assertEquals(
+                    expect(new Doc(flags), list), write(new Doc(flags), list, pool)
+                );
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_unordered() throws IOCrash {
+        Set<Integer> set = new HashSet<>();
+        for (int i = 8192; i < 16384; i++) {
+            set.add(i);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long flags : new long[]{0, Flag.PRETTY}) {
+                assertEquals(
+                    expect(new Chan(flags), set), write(new Chan(flags), set, pool)
+                );
+                assertEquals(
+                    expect(new Json(flags), set), write(new Json(flags), set, pool)
+                );
+                assertEquals(
+                    expect(new Doc(flags), set), write(new Doc(flags), set, pool)
+                );
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_empty_slices() throws IOCrash {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            list.add(i);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int[] range : new int[][]{{15000, 20000}, {0, 3000}, {6000, 7000}, {0, 0}}) {
+                Json json = new Json();
+                ((Json.Flow) json.getFlow()).leftBracket();
+                assertTrue(
+                    Splitter.write(
+                        json, list.spliterator(), (c, e) -> {
+                            if (e >= range[0] && e < range[1]) c.set(null, e);
+                        }, pool
+                    )
+                );
+                ((Json.Flow) json.getFlow()).rightBracket();
+
+                StringJoiner joiner = new StringJoiner(",", "[", "]");
+                for (int i = range[0]; i < range[1]; i++) {
+                    joiner.add(Integer.toString(i));
+                }
+                assertEquals(joiner.toString(), json.toString());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_crash() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            list.add(i);
+        }
+
+        IOCrash crash = new IOCrash("slice");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            IOCrash e = assertThrows(IOCrash.class, () ->
+                Splitter.write(
+                    new Json(), list.spliterator(), (c, i) -> {
+                        if (i == 15000) throw crash;
+                        c.set(null, i);
+                    }, pool
+                )
+            );
+            assertSame(crash, e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_threshold() throws IOCrash {
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            list.add(i);
+        }
+
+        assertFalse(Splitter.write(new Json(Flag.PARALLEL), list));
+        assertFalse(Splitter.write(new Json(), new ArrayList<>(Collections.nCopies(20000, 1))));
+
+        List<Integer> big = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            big.add(i);
+        }
+        assertEquals(
+            Json.encode(big), Json.encode(big, Flag.PARALLEL)
+        );
+    }
+}
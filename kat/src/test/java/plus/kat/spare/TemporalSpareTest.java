@@ -0,0 +1,81 @@
+package plus.kat.spare;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+import plus.kat.chain.*;
+import plus.kat.crash.*;
+
+import java.time.*;
+import java.util.Random;
+
+import static java.time.format.DateTimeFormatter.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class TemporalSpareTest {
+
+    @Test
+    public void test_compat() throws IOCrash {
+        Random random = new Random(1);
+        Event<Object> event = new Event<>();
+        int[] scales = {1, 10, 1000, 1000000, 1000000000};
+
+        for (int i = 0; i < 2000; i++) {
+            long sec = (long) (random.nextDouble() * 315537897599L) - 62167219200L;
+            int nano = random.nextInt(1000000000) / scales[i % 5] * scales[i % 5];
+
+            Instant instant = Instant.ofEpochSecond(sec, nano);
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(sec, nano, ZoneOffset.UTC);
+            LocalDate date = dateTime.toLocalDate();
+            LocalTime time = dateTime.toLocalTime();
+
+            String s1 = ISO_INSTANT.format(instant);
+            assertEquals("Instant(" + s1 + ")", InstantSpare.INSTANCE.write(instant).toString());
+            assertEquals("\"" + s1 + "\"", InstantSpare.INSTANCE.serial(instant).toString());
+            assertEquals(instant, InstantSpare.INSTANCE.read(event, new Value(s1)));
+
+            String s2 = ISO_LOCAL_DATE_TIME.format(dateTime);
+            assertEquals("LocalDateTime(" + s2 + ")", LocalDateTimeSpare.INSTANCE.write(dateTime).toString());
+            assertEquals(dateTime, LocalDateTimeSpare.INSTANCE.read(event, new Value(s2)));
+
+            String s3 = ISO_LOCAL_DATE.format(date);
+            assertEquals("LocalDate(" + s3 + ")", LocalDateSpare.INSTANCE.write(date).toString());
+            assertEquals(date, LocalDateSpare.INSTANCE.read(event, new Value(s3)));
+
+            String s4 = ISO_LOCAL_TIME.format(time);
+            assertEquals("LocalTime(" + s4 + ")", LocalTimeSpare.INSTANCE.write(time).toString());
+            assertEquals(time, LocalTimeSpare.INSTANCE.read(event, new Value(s4)));
+        }
+    }
+
+    @Test
+    public void test_fallback() throws IOCrash {
+        Event<Object> event = new Event<>();
+        Supplier supplier = Supplier.ins();
+
+        assertEquals(
+            LocalTime.of(22, 33), LocalTimeSpare.INSTANCE.read(event, new Value("22:33"))
+        );
+        assertEquals(
+            LocalTime.of(22, 33, 1), LocalTimeSpare.INSTANCE.read(event, new Value("22:33:01."))
+        );
+        assertEquals(
+            Instant.ofEpochSecond(1645539742), InstantSpare.INSTANCE.cast(supplier, "2022-02-22T22:22:22+08:00")
+        );
+        assertEquals(
+            Instant.ofEpochSecond(-62198755200L), InstantSpare.INSTANCE.cast(supplier, "-0001-01-01T00:00:00Z")
+        );
+        assertEquals(
+            "LocalDate(+10000-01-01)", LocalDateSpare.INSTANCE.write(LocalDate.of(10000, 1, 1)).toString()
+        );
+        assertNull(
+            LocalDateSpare.INSTANCE.cast(supplier, "2022-02-30")
+        );
+        assertThrows(
+            Exception.class, () -> LocalDateSpare.INSTANCE.read(event, new Value("2022-02-30"))
+        );
+    }
+}
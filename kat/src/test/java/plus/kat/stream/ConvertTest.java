@@ -2,6 +2,8 @@ package plus.kat.stream;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,4 +26,55 @@ public class ConvertTest {
         byte[] d3 = "Σ".getBytes(UTF_8);
         assertEquals('Σ', Convert.toChar(d3, d3.length, '?'));
     }
+
+    @Test
+    public void test_byte_array_to_int() {
+        String[] cases = {
+            "12345678", "-12345678", "123456789", "2147483647", "-2147483648",
+            "2147483648", "-2147483649", "99999999999", "1234a678", "12345678a",
+            "1234/678", "1234:678", "0x7fffffff", "0b1010", "017777777777"
+        };
+        for (String c : cases) {
+            byte[] d = c.getBytes(UTF_8);
+            assertEquals(Convert.toInt(c, c.length(), 10, -1), Convert.toInt(d, d.length, 10, -1), c);
+        }
+
+        Random random = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            int num = random.nextInt() >> random.nextInt(32);
+            byte[] d = Integer.toString(num).getBytes(UTF_8);
+            assertEquals(num, Convert.toInt(d, d.length, 10, -1));
+        }
+    }
+
+    @Test
+    public void test_byte_array_to_long() {
+        String[] cases = {
+            "1234567812345678", "-1234567812345678", "9223372036854775807",
+            "-9223372036854775808", "9223372036854775808", "-9223372036854775809",
+            "92233720368547758070", "12345678123a5678", "1234567812345678~",
+            "0x7fffffffffffffff", "0b1010", "0777777777777777777777"
+        };
+        for (String c : cases) {
+            byte[] d = c.getBytes(UTF_8);
+            assertEquals(Convert.toLong(c, c.length(), 10L, -1L), Convert.toLong(d, d.length, 10L, -1L), c);
+        }
+
+        Random random = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            long num = random.nextLong() >> random.nextInt(64);
+            byte[] d = Long.toString(num).getBytes(UTF_8);
+            assertEquals(num, Convert.toLong(d, d.length, 10L, -1L));
+        }
+    }
+
+    @Test
+    public void test_to_eight() {
+        assertEquals(12345678, Convert.toEight("12345678".getBytes(UTF_8), 0));
+        assertEquals(99999999, Convert.toEight("x99999999".getBytes(UTF_8), 1));
+        assertEquals(0, Convert.toEight("00000000".getBytes(UTF_8), 0));
+        assertEquals(-1, Convert.toEight("1234567:".getBytes(UTF_8), 0));
+        assertEquals(-1, Convert.toEight("/2345678".getBytes(UTF_8), 0));
+        assertEquals(-1, Convert.toEight(new byte[]{'1', '2', '3', (byte) 0xFA, '5', '6', '7', '8'}, 0));
+    }
 }
@@ -0,0 +1,114 @@
+package plus.kat.stream;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.Event;
+import plus.kat.Spare;
+import plus.kat.entity.User;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedReaderTest {
+
+    public void assertTest(User user) {
+        assertNotNull(user);
+        assertEquals(1, user.uid);
+        assertFalse(user.blocked);
+        assertEquals("kraity", user.name);
+        assertEquals("developer", user.role);
+    }
+
+    public Path path(String name) throws Exception {
+        return Paths.get(
+            getClass().getResource(name).toURI()
+        );
+    }
+
+    @Test
+    public void test_mmap() throws Exception {
+        Spare<User> spare = Spare
+            .lookup(User.class);
+
+        assertTest(spare.read(Event.mmap(path("/entity/user.kat"))));
+        assertTest(spare.parse(Event.mmap(path("/entity/user.json"))));
+        assertTest(spare.down(Event.mmap(path("/entity/user.xml"))));
+    }
+
+    @Test
+    public void test_channel() throws Exception {
+        Spare<User> spare = Spare
+            .lookup(User.class);
+
+        assertTest(spare.read(Event.channel(path("/entity/user.kat"))));
+        assertTest(spare.parse(Event.channel(path("/entity/user.json"))));
+        assertTest(spare.down(Event.channel(path("/entity/user.xml"))));
+    }
+
+    @Test
+    public void test_window() throws Exception {
+        Path path = path("/entity/user.json");
+        byte[] data = Files.readAllBytes(path);
+
+        MappedReader reader = new MappedReader(
+            FileChannel.open(path, StandardOpenOption.READ), 7
+        );
+
+        int i = 0;
+        while (reader.also()) {
+            assertEquals(data[i++], reader.read());
+        }
+
+        reader.close();
+        assertEquals(data.length, i);
+    }
+
+    @Test
+    public void test_channel_buffer() throws Exception {
+        Path path = path("/entity/user.json");
+        byte[] data = Files.readAllBytes(path);
+
+        for (int n = 0; n < 2; n++) {
+            ChannelReader reader = new ChannelReader(
+                FileChannel.open(path, StandardOpenOption.READ)
+            );
+
+            int i = 0;
+            while (reader.also()) {
+                assertEquals(data[i++], reader.read());
+            }
+
+            reader.close();
+            assertEquals(data.length, i);
+            assertFalse(reader.also());
+        }
+
+        ChannelReader.Bucket bucket = ChannelReader.Bucket.INS;
+        ByteBuffer buffer = bucket.alloc();
+        assertTrue(buffer.isDirect());
+
+        bucket.revert(buffer);
+        assertSame(buffer, bucket.alloc());
+    }
+
+    @Test
+    public void test_channel_non_blocking() throws Exception {
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.source().configureBlocking(false);
+            assertThrows(
+                IllegalArgumentException.class, () -> new ChannelReader(pipe.source())
+            );
+        } finally {
+            pipe.source().close();
+            pipe.sink().close();
+        }
+    }
+}
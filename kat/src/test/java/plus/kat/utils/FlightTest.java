@@ -0,0 +1,95 @@
+package plus.kat.utils;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.*;
+import plus.kat.stream.InputStreamReader;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class FlightTest {
+
+    @Test
+    public void test_record() throws Exception {
+        assertTrue(Flight.ENABLED);
+
+        Path path = Files.createTempFile("kat", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("plus.kat.Decode");
+            recording.enable("plus.kat.Encode");
+            recording.enable("plus.kat.Create");
+            recording.enable("plus.kat.Refill");
+            recording.start();
+
+            Spare<Meta> spare = Spare.lookup(Meta.class);
+            assertNotNull(spare);
+
+            Meta meta = spare.parse(
+                new plus.kat.Event<>(
+                    new InputStreamReader(
+                        new ByteArrayInputStream(
+                            "{\"id\":1,\"tag\":\"kat\"}".getBytes(UTF_8)
+                        )
+                    )
+                )
+            );
+            assertNotNull(meta);
+            assertEquals(1, meta.id);
+
+            assertEquals("{\"id\":1,\"tag\":\"kat\"}", spare.serial(meta).toString());
+
+            recording.stop();
+            recording.dump(path);
+        }
+
+        Map<String, RecordedEvent> events = new HashMap<>();
+        try {
+            List<RecordedEvent> list = RecordingFile.readAllEvents(path);
+            for (RecordedEvent event : list) {
+                events.put(event.getEventType().getName(), event);
+            }
+        } finally {
+            Files.delete(path);
+        }
+
+        RecordedEvent create = events.get("plus.kat.Create");
+        assertNotNull(create);
+        assertEquals(Meta.class.getName(), create.getString("type"));
+
+        RecordedEvent decode = events.get("plus.kat.Decode");
+        assertNotNull(decode);
+        assertEquals("JSON", decode.getString("job"));
+        assertEquals(Meta.class.getName(), decode.getString("type"));
+        assertEquals(1, decode.getInt("depth"));
+
+        RecordedEvent encode = events.get("plus.kat.Encode");
+        assertNotNull(encode);
+        assertEquals("JSON", encode.getString("job"));
+        assertEquals(Meta.class.getName(), encode.getString("type"));
+        assertEquals(20L, encode.getLong("bytes"));
+
+        RecordedEvent refill = events.get("plus.kat.Refill");
+        assertNotNull(refill);
+        assertEquals(InputStreamReader.class.getName(), refill.getString("reader"));
+    }
+
+    static class Meta {
+        public int id;
+        public String tag;
+    }
+}
@@ -0,0 +1,80 @@
+package plus.kat.utils;
+
+import org.junit.jupiter.api.Test;
+
+import plus.kat.Job;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author kraity
+ */
+public class MeterTest {
+
+    @Test
+    public void test_disabled() {
+        assertFalse(Meter.ENABLED);
+        assertNull(Meter.INS);
+    }
+
+    @Test
+    public void test_adder() throws Exception {
+        Meter.Adder adder = new Meter.Adder();
+
+        adder.count(Meter.Probe.PARSER_BORROW);
+        adder.count(Meter.Probe.PARSER_BORROW);
+        adder.count(Meter.Probe.PAPER_HIT);
+        adder.decoded(Job.JSON, 100);
+        adder.encoded(Job.KAT, 50, 16);
+        adder.encoded(Job.KAT, 30, 8);
+
+        assertEquals(2L, adder.sum(Meter.Probe.PARSER_BORROW));
+        assertEquals(0L, adder.sum(Meter.Probe.PARSER_WAIT));
+        assertEquals(24L, adder.sum(Job.KAT, "EncodeBytes"));
+        assertEquals(-1L, adder.sum(Job.KAT, "Unknown"));
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ObjectName name = new ObjectName(MeterBean.NAME);
+        server.registerMBean(new MeterBean(adder), name);
+
+        try {
+            assertEquals(2L, server.getAttribute(name, "PARSER_BORROW"));
+            assertEquals(1L, server.getAttribute(name, "PAPER_HIT"));
+            assertEquals(1L, server.getAttribute(name, "JSON.DecodeCount"));
+            assertEquals(100L, server.getAttribute(name, "JSON.DecodeNanos"));
+            assertEquals(2L, server.getAttribute(name, "KAT.EncodeCount"));
+            assertEquals(80L, server.getAttribute(name, "KAT.EncodeNanos"));
+            assertEquals(24L, server.getAttribute(name, "KAT.EncodeBytes"));
+            assertEquals(0L, server.getAttribute(name, "DOC.EncodeBytes"));
+
+            assertThrows(
+                AttributeNotFoundException.class, () -> server.getAttribute(name, "KAT.Unknown")
+            );
+            assertEquals(
+                11 + 3 * 5, server.getMBeanInfo(name).getAttributes().length
+            );
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    public void test_register() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(MeterBean.NAME);
+
+        Meter meter = Meter.Adder.load();
+        assertTrue(meter instanceof Meter.Adder);
+        assertTrue(server.isRegistered(name));
+
+        try {
+            meter.count(Meter.Probe.READER_HIT);
+            assertEquals(1L, server.getAttribute(name, "READER_HIT"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}